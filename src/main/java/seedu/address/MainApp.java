@@ -3,12 +3,14 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -23,11 +25,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,7 +63,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,10 +73,48 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, configured by {@code config}
+     * to journal changes, keep a binary snapshot or keep segments instead of rewriting the whole file,
+     * and to save in the background.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(addressBookFilePath, config.isDataFilePrettyPrinted(),
+                        config.isParallelLoadEnabled());
+        AddressBookStorage addressBookStorage;
+        if (config.isJournalEnabled()) {
+            logger.info("Journaling changes to "
+                    + JournalingAddressBookStorage.getJournalFilePath(addressBookFilePath));
+            addressBookStorage = new JournalingAddressBookStorage(jsonAddressBookStorage,
+                    config.getJournalCheckpointInterval());
+        } else if (config.isBinarySnapshotEnabled()) {
+            Path snapshotFilePath = BinaryAddressBookStorage.getSnapshotFilePath(addressBookFilePath);
+            logger.info("Keeping a binary snapshot at " + snapshotFilePath);
+            addressBookStorage = new BinaryAddressBookStorage(snapshotFilePath, jsonAddressBookStorage);
+        } else if (config.isSegmentedStorageEnabled()) {
+            Path manifestFilePath = SegmentedAddressBookStorage.getManifestFilePath(addressBookFilePath);
+            logger.info("Keeping data in segments listed by " + manifestFilePath);
+            addressBookStorage = new SegmentedAddressBookStorage(manifestFilePath, config.getSegmentSize(),
+                    jsonAddressBookStorage);
+        } else {
+            addressBookStorage = jsonAddressBookStorage;
+        }
+
+        if (config.getSaveDurability() == SaveDurability.SYNCHRONOUS) {
+            return addressBookStorage;
+        }
+        logger.info("Saving data in the background with durability " + config.getSaveDurability());
+        return new WriteBehindAddressBookStorage(addressBookStorage, config.getSaveDurability(),
+                config.getSaveIntervalMillis());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If {@code storage} keeps a journal, its changes are replayed on top of the data file while reading.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -78,7 +122,10 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
+            long startNanos = System.nanoTime();
             addressBookOptional = storage.readAddressBook();
+            logger.info(String.format("Read data file in %d ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -177,10 +224,19 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FitBook ] =============================");
+        if (logic != null) {
+            logger.info("Saved data after " + logic.getSaveCount() + " command(s), skipped saving after "
+                    + logic.getSkippedSaveCount() + " command(s) that changed nothing");
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
     }
 }
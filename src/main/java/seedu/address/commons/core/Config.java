@@ -17,6 +17,15 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean journalEnabled = false;
+    private int journalCheckpointInterval = 500;
+    private SaveDurability saveDurability = SaveDurability.SYNCHRONOUS;
+    private long saveIntervalMillis = 2000;
+    private boolean dataFilePrettyPrinted = true;
+    private boolean parallelLoadEnabled = false;
+    private boolean binarySnapshotEnabled = false;
+    private boolean segmentedStorageEnabled = false;
+    private int segmentSize = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +43,78 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public int getJournalCheckpointInterval() {
+        return journalCheckpointInterval;
+    }
+
+    public void setJournalCheckpointInterval(int journalCheckpointInterval) {
+        this.journalCheckpointInterval = journalCheckpointInterval;
+    }
+
+    public SaveDurability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(SaveDurability saveDurability) {
+        this.saveDurability = saveDurability;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean parallelLoadEnabled) {
+        this.parallelLoadEnabled = parallelLoadEnabled;
+    }
+
+    public boolean isBinarySnapshotEnabled() {
+        return binarySnapshotEnabled;
+    }
+
+    public void setBinarySnapshotEnabled(boolean binarySnapshotEnabled) {
+        this.binarySnapshotEnabled = binarySnapshotEnabled;
+    }
+
+    public boolean isSegmentedStorageEnabled() {
+        return segmentedStorageEnabled;
+    }
+
+    public void setSegmentedStorageEnabled(boolean segmentedStorageEnabled) {
+        this.segmentedStorageEnabled = segmentedStorageEnabled;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +128,23 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalEnabled == otherConfig.journalEnabled
+                && journalCheckpointInterval == otherConfig.journalCheckpointInterval
+                && saveDurability == otherConfig.saveDurability
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && dataFilePrettyPrinted == otherConfig.dataFilePrettyPrinted
+                && parallelLoadEnabled == otherConfig.parallelLoadEnabled
+                && binarySnapshotEnabled == otherConfig.binarySnapshotEnabled
+                && segmentedStorageEnabled == otherConfig.segmentedStorageEnabled
+                && segmentSize == otherConfig.segmentSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalEnabled, journalCheckpointInterval,
+                saveDurability, saveIntervalMillis, dataFilePrettyPrinted, parallelLoadEnabled, binarySnapshotEnabled,
+                segmentedStorageEnabled, segmentSize);
     }
 
     @Override
@@ -60,6 +152,15 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCheckpointInterval", journalCheckpointInterval)
+                .add("saveDurability", saveDurability)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("dataFilePrettyPrinted", dataFilePrettyPrinted)
+                .add("parallelLoadEnabled", parallelLoadEnabled)
+                .add("binarySnapshotEnabled", binarySnapshotEnabled)
+                .add("segmentedStorageEnabled", segmentedStorageEnabled)
+                .add("segmentSize", segmentSize)
                 .toString();
     }
 
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * How eagerly changes to the address book are written to disk.
+ */
+public enum SaveDurability {
+    /** Every command waits for its changes to be written before returning. */
+    SYNCHRONOUS,
+    /** Every command's changes are written in the background as soon as the writer is free. */
+    EVERY_COMMAND,
+    /** Changes are written in the background at most once per save interval. */
+    PERIODIC,
+    /** Changes are only written when the app exits. */
+    ON_EXIT
+}
@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +24,17 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Produces the content of a file by writing it to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +98,167 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is written to a temporary file in the same directory and forced to disk before it atomically
+     * replaces {@code file}, so a crash mid-write leaves either the old or the new content, never a mix.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        replaceAtomically(writeToTempFile(file, out -> out.write(bytes)), file);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but streams the content from {@code contentWriter}
+     * through a buffer straight to disk.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        replaceAtomically(writeToTempFile(file, contentWriter), file);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but keeps the previous content of {@code file}
+     * at {@link #getBackupPath(Path)}, replacing any older backup. {@code file} stays in place until the new content
+     * replaces it, so there is always a data file to read.
+     */
+    public static void writeToFileWithBackup(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileWithBackup(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Similar to {@link #writeToFileWithBackup(Path, String)}, but streams the content from {@code contentWriter}
+     * through a buffer straight to disk instead of holding all of it in memory first.
+     */
+    public static void writeToFileWithBackup(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = writeToTempFile(file, contentWriter);
+        try {
+            if (isFileExists(file) && Files.size(file) > 0) {
+                keepAsBackup(file);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        replaceAtomically(tempFile, file);
+    }
+
+    /**
+     * Returns the location of the backup kept for {@code file} by {@link #writeToFileWithBackup(Path, String)}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Makes the current content of {@code file} its backup without moving {@code file} away.
+     * The backup is a hard link to {@code file}, so keeping it writes no data; {@code file} is then replaced by a new
+     * file rather than written in place, which leaves the backup as it was. Where hard links are not supported, the
+     * content is copied and forced to disk instead.
+     */
+    private static void keepAsBackup(Path file) throws IOException {
+        Path newBackup;
+        try {
+            newBackup = linkToTempFile(file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            newBackup = writeToTempFile(file, out -> Files.copy(file, out));
+        }
+        replaceAtomically(newBackup, getBackupPath(file));
+        // Renaming a hard link over another link to the same file leaves both names in place
+        Files.deleteIfExists(newBackup);
+    }
+
+    /**
+     * Creates a hard link to {@code file} with a new name next to it.
+     */
+    private static Path linkToTempFile(Path file) throws IOException {
+        while (true) {
+            Path link = getTempPath(file);
+            try {
+                return Files.createLink(link, file);
+            } catch (FileAlreadyExistsException e) {
+                // Try another name
+            }
+        }
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a new file next to {@code file}
+     * and forces it to disk. The new file gets the permissions of {@code file} if it exists.
+     */
+    private static Path writeToTempFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = createTempFile(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Creates an empty file with a new name next to {@code file}, with the permissions of {@code file} if it exists,
+     * or the default permissions of new files otherwise.
+     */
+    private static Path createTempFile(Path file) throws IOException {
+        Path tempFile;
+        while (true) {
+            tempFile = getTempPath(file);
+            try {
+                Files.createFile(tempFile);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Try another name
+            }
+        }
+
+        try {
+            PosixFileAttributeView attributes = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+            if (attributes != null && Files.exists(file)) {
+                Files.setPosixFilePermissions(tempFile, attributes.readAttributes().permissions());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Returns a path with a new random name next to {@code file}.
+     */
+    private static Path getTempPath(Path file) {
+        return file.toAbsolutePath().resolveSibling(file.getFileName() + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to disk before returning, so that an append
+     * that has returned survives a crash. Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            // The content is what matters; file metadata such as the modification time need not be forced
+            channel.force(false);
+        }
     }
 
 }
@@ -39,6 +39,7 @@ public class JsonUtil {
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper compactObjectMapper;
 
     static {
         objectMapper.findAndRegisterModules();
@@ -63,6 +64,17 @@ public class JsonUtil {
                 .addSerializer(Path.class, new PathSerializer())
                 .addDeserializer(Path.class, new PathDeserializer());
         objectMapper.registerModule(customModule);
+
+        compactObjectMapper = objectMapper.copy();
+        compactObjectMapper.configure(SerializationFeature.INDENT_OUTPUT, false);
+    }
+
+    /**
+     * Writes JSON content through a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
     }
 
     /**
@@ -109,6 +121,66 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Similar to {@link #saveJsonFileWithBackup(Path, boolean, JsonContentWriter)}, but does not keep a backup.
+     */
+    public static void saveJsonFile(Path filePath, boolean isPrettyPrinted, JsonContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+        FileUtil.writeToFile(filePath, toFileContentWriter(isPrettyPrinted, contentWriter));
+    }
+
+    /**
+     * Saves the given object as a JSON file, keeping the file's previous content as a backup.
+     *
+     * @see FileUtil#writeToFileWithBackup(Path, String)
+     */
+    public static <T> void saveJsonFileWithBackup(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        FileUtil.writeToFileWithBackup(filePath, toJsonString(jsonFile));
+    }
+
+    /**
+     * Saves the JSON content produced by {@code contentWriter} to a file, keeping the file's previous content as
+     * a backup. The content is streamed straight to disk rather than built up in memory first.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} use the same settings as the rest of this class,
+     * and the output is pretty-printed exactly like {@link #toJsonString(Object)} if {@code isPrettyPrinted}.
+     *
+     * @see FileUtil#writeToFileWithBackup(Path, FileUtil.ContentWriter)
+     */
+    public static void saveJsonFileWithBackup(Path filePath, boolean isPrettyPrinted, JsonContentWriter contentWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(contentWriter);
+        FileUtil.writeToFileWithBackup(filePath, toFileContentWriter(isPrettyPrinted, contentWriter));
+    }
+
+    private static FileUtil.ContentWriter toFileContentWriter(boolean isPrettyPrinted,
+            JsonContentWriter contentWriter) {
+        ObjectMapper mapper = isPrettyPrinted ? objectMapper : compactObjectMapper;
+        return out -> {
+            JsonGenerator generator = mapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            contentWriter.writeTo(generator);
+            generator.close();
+        };
+    }
+
+    /**
+     * Opens a streaming parser over the JSON file at {@code filePath}.
+     * Values can be bound from the parser with {@link JsonParser#readValueAs(Class)}, using the same settings
+     * as the rest of this class. The caller is responsible for closing the parser.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(filePath.toFile());
+    }
+
     /**
      * Converts a JSON string to an object of the given class.
      */
@@ -133,6 +205,12 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Converts an object to a single-line JSON string, suitable for line-oriented files such as journals.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return compactObjectMapper.writeValueAsString(instance);
+    }
 
     /** Custom deserializer for java.util.logging.Level. */
     private static class LevelDeserializer extends
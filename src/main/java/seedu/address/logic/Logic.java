@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes the changes to the address book that storage has not written yet, such as those held back by
+     * write-behind saving, to the data file.
+     * @throws CommandException If the changes could not be written.
+     */
+    void flushAddressBook() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +55,20 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Returns the number of times the address book has been saved after a command.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    long getSkippedSaveCount();
+
+    /**
+     * Returns a message telling the user that the data was loaded from a backup because the data file was missing
+     * or could not be loaded, or an empty {@code Optional} if the data file was loaded.
+     */
+    Optional<String> getDataRestoredMessage();
 }
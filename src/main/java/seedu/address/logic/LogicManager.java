@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,12 +28,23 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String EXIT_SAVE_ERROR_FORMAT = "Could not save data before exiting due to the following "
+            + "error: %s\nFitBook was kept open so that your changes are not lost. Use exit to try again.";
+
+    public static final String DATA_RESTORED_FORMAT = "The data file could not be loaded, so the data was restored "
+            + "from its backup %s. The last change saved before the problem may be missing.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the address book as last handed to storage, or null if it may not have been saved yet. */
+    private Long savedAddressBookVersion;
+    private long saveCount;
+    private long skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -50,15 +62,48 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since the last save, so that commands that only read
+     * or view data cost no I/O. The first command always saves, as the data it started with (e.g. sample data)
+     * may not be on disk yet. A version is only treated as saved while storage reports no failed save, as storage
+     * that writes in the background may fail after the save has returned.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (storage.hasFailedSave()) {
+            savedAddressBookVersion = null;
+        }
+        if (savedAddressBookVersion != null && savedAddressBookVersion == version) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
+            savedAddressBookVersion = null;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedAddressBookVersion = null;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        savedAddressBookVersion = version;
+        saveCount++;
+    }
 
-        return commandResult;
+    @Override
+    public void flushAddressBook() throws CommandException {
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(EXIT_SAVE_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
     }
 
     @Override
@@ -85,4 +130,19 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public Optional<String> getDataRestoredMessage() {
+        return storage.getRestoredBackupPath().map(backupPath -> String.format(DATA_RESTORED_FORMAT, backupPath));
+    }
 }
@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.person.SessionOccurrence;
+
+/**
+ * Lists every session occurrence in the day, week or month of a date, ordered by time.
+ * Sessions do not record which week a biweekly session falls in, so biweekly occurrences are marked and followed
+ * by a note saying how they were placed.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every session in the day, week or month of the given date (today by default), "
+            + "ordered by time. Weeks start on Monday.\n"
+            + "Parameters: [day|week|month] [YYYY-MM-DD]\n"
+            + "Example: " + COMMAND_WORD + " week 2025-03-10";
+
+    public static final String MESSAGE_SUCCESS = "%1$d session(s) from %2$s to %3$s:";
+    public static final String MESSAGE_NO_SESSIONS = "No sessions from %1$s to %2$s.";
+    public static final String MESSAGE_MORE_SESSIONS = "... and %1$d more";
+    public static final String MESSAGE_BIWEEKLY_EVERY_WEEK = "Note: FitBook does not record which week a biweekly "
+            + "session falls in, so biweekly sessions are listed even if they fall in the other week.";
+    public static final String MESSAGE_BIWEEKLY_ALTERNATE_WEEKS = "Note: FitBook does not record which week a "
+            + "biweekly session falls in, so biweekly sessions are listed every second week from their first day in "
+            + "the month, which may not be the weeks they actually fall in.";
+
+    /** Number of occurrences listed before the rest are summarised. */
+    public static final int MAX_LISTED_OCCURRENCES = 100;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final DateTimeFormatter DAY_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE uuuu-MM-dd", Locale.ENGLISH);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    /**
+     * The length of time an agenda covers.
+     */
+    public enum Period {
+        DAY,
+        WEEK,
+        MONTH
+    }
+
+    private final Period period;
+    private final LocalDate date;
+
+    /**
+     * Creates an {@code AgendaCommand} to list the sessions in the {@code period} containing {@code date}.
+     */
+    public AgendaCommand(Period period, LocalDate date) {
+        requireNonNull(period);
+        requireNonNull(date);
+        this.period = period;
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate first = getFirstDay();
+        LocalDate end = getEndDay(first);
+        List<SessionOccurrence> occurrences = model.getSessionOccurrences(first.atStartOfDay(), end.atStartOfDay());
+
+        String firstDay = first.format(DATE_FORMATTER);
+        String lastDay = end.minusDays(1).format(DATE_FORMATTER);
+        if (occurrences.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SESSIONS, firstDay, lastDay));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, occurrences.size(), firstDay,
+                lastDay));
+        int listed = Math.min(occurrences.size(), MAX_LISTED_OCCURRENCES);
+        for (SessionOccurrence occurrence : occurrences.subList(0, listed)) {
+            message.append("\n").append(format(occurrence));
+        }
+        if (listed < occurrences.size()) {
+            message.append("\n").append(String.format(MESSAGE_MORE_SESSIONS, occurrences.size() - listed));
+        }
+        if (occurrences.stream().anyMatch(AgendaCommand::isBiweekly)) {
+            message.append("\n").append(period == Period.MONTH
+                    ? MESSAGE_BIWEEKLY_ALTERNATE_WEEKS
+                    : MESSAGE_BIWEEKLY_EVERY_WEEK);
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private LocalDate getFirstDay() {
+        switch (period) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        default:
+            return date;
+        }
+    }
+
+    private LocalDate getEndDay(LocalDate first) {
+        switch (period) {
+        case WEEK:
+            return first.plusWeeks(1);
+        case MONTH:
+            return first.plusMonths(1);
+        default:
+            return first.plusDays(1);
+        }
+    }
+
+    private static String format(SessionOccurrence occurrence) {
+        LocalDateTime start = occurrence.getStart();
+        String time = start.format(TIME_FORMATTER);
+        if (occurrence.getEnd().isAfter(start)) {
+            time += "-" + occurrence.getEnd().format(TIME_FORMATTER);
+        }
+        String line = start.format(DAY_FORMATTER) + " " + time + " " + occurrence.getPerson().getName();
+        return isBiweekly(occurrence) ? line + " (biweekly)" : line;
+    }
+
+    private static boolean isBiweekly(SessionOccurrence occurrence) {
+        return occurrence.getPerson().getSession().getType() == SessionType.BIWEEKLY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCommand)) {
+            return false;
+        }
+
+        AgendaCommand otherCommand = (AgendaCommand) other;
+        return period == otherCommand.period && date.equals(otherCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("period", period)
+                .add("date", date)
+                .toString();
+    }
+}
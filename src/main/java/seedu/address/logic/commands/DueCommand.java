@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the unpaid clients ordered by payment deadline: all of them, those that are overdue, or those due within a
+ * number of days.
+ */
+public class DueCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the unpaid clients ordered by payment deadline, earliest first. "
+            + "With 'overdue', lists only those whose deadline has passed; with a number of days, lists only those "
+            + "due from today to that many days later.\n"
+            + "Parameters: [overdue|DAYS]\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_UNPAID = "%1$d unpaid client(s), earliest deadline first.";
+    public static final String MESSAGE_OVERDUE = "%1$d unpaid client(s) with a deadline before %2$s.";
+    public static final String MESSAGE_DUE_WITHIN = "%1$d unpaid client(s) due from %2$s to %3$s.";
+    public static final String MESSAGE_CONSTRAINTS_DAYS = "The number of days must not be negative.";
+
+    /**
+     * The unpaid clients a {@code DueCommand} lists.
+     */
+    public enum View {
+        /** Every unpaid client, including those without a deadline. */
+        UNPAID,
+        /** Unpaid clients with a deadline before today. */
+        OVERDUE,
+        /** Unpaid clients with a deadline from today to a number of days later. */
+        WITHIN
+    }
+
+    private final View view;
+    private final int days;
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code DueCommand} to list the unpaid clients of {@code view} as of {@code today}.
+     * {@code days} is the number of days after {@code today} covered by {@link View#WITHIN}, and is ignored by the
+     * other views.
+     */
+    public DueCommand(View view, int days, LocalDate today) {
+        requireNonNull(view);
+        requireNonNull(today);
+        checkArgument(days >= 0, MESSAGE_CONSTRAINTS_DAYS);
+        this.view = view;
+        this.days = view == View.WITHIN ? days : 0;
+        this.today = today;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> persons;
+        String message;
+        switch (view) {
+        case OVERDUE:
+            persons = model.getUnpaidDueBetween(LocalDate.MIN, today.minusDays(1));
+            message = String.format(MESSAGE_OVERDUE, persons.size(), today);
+            break;
+        case WITHIN:
+            LocalDate last = today.plusDays(days);
+            persons = model.getUnpaidDueBetween(today, last);
+            message = String.format(MESSAGE_DUE_WITHIN, persons.size(), today, last);
+            break;
+        default:
+            persons = model.getUnpaidByDeadline();
+            message = String.format(MESSAGE_UNPAID, persons.size());
+            break;
+        }
+
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            ranks.put(persons.get(i).getName(), i);
+        }
+        model.updateFilteredPersonList(person -> ranks.containsKey(person.getName()), Comparator.comparingInt(person ->
+                ranks.getOrDefault(person.getName(), Integer.MAX_VALUE)));
+        return new CommandResult(message, false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueCommand)) {
+            return false;
+        }
+
+        DueCommand otherCommand = (DueCommand) other;
+        return view == otherCommand.view && days == otherCommand.days && today.equals(otherCommand.today);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("view", view)
+                .add("days", days)
+                .add("today", today)
+                .toString();
+    }
+}
@@ -2,14 +2,20 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The matching names are looked up in the address book's name index, so names are not split on every search.
+ * Showing the matches still filters the displayed list, which tests every person once with a hash lookup of its
+ * name; the displayed list stays a filter over the address book so that edits to the shown persons appear in it.
  */
 public class FindCommand extends Command {
 
@@ -18,7 +24,13 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Persons can also be filtered by fields, listing those that meet every condition given: "
+            + "[KEYWORD]... [t/TAG]... [paid/true|false] [dl/RANGE] [age/RANGE] [h/RANGE] [w/RANGE] [bf/RANGE] "
+            + "[type/weekly|biweekly|monthly|oneoff] [days/DAY[,DAY]...]\n"
+            + "RANGE is VALUE, <VALUE, <=VALUE, >VALUE, >=VALUE, LOW..HIGH or LOW-HIGH. "
+            + "t/!TAG excludes a tag and t/TAG|TAG... requires any of the tags.\n"
+            + "Example: " + COMMAND_WORD + " t/vip paid/false dl/<2026-11-01 age/30-40";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +41,8 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Name> matchingNames = model.findNamesContaining(predicate.getKeywords());
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
         return (model.getFilteredPersonList().isEmpty())
                 ? new CommandResult("No results found for that keyword!")
                 : new CommandResult(
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.Clock;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Session;
+
+/**
+ * Lists the earliest session slots that do not conflict with any existing client's session.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the earliest free session slots that do not conflict with any client's session.\n"
+            + "Parameters: "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_DAYS + "DAY[,DAY]...] "
+            + "[" + PREFIX_FROM + "HHMM] "
+            + "[" + PREFIX_TO + "HHMM] "
+            + "[" + PREFIX_TYPE + "weekly|biweekly|oneoff] "
+            + "[" + PREFIX_COUNT + "NUMBER]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DURATION + "60 "
+            + PREFIX_DAYS + "MON,WED,FRI "
+            + PREFIX_FROM + "0900 "
+            + PREFIX_TO + "1800 "
+            + PREFIX_TYPE + "weekly";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d free slot(s):";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free slots found. Try a shorter duration, "
+            + "more days or a wider time window.";
+
+    private final FreeSlotQuery query;
+    private final Clock clock;
+
+    /**
+     * Creates a {@code FreeSlotsCommand} to find the free slots described by {@code query}, taking the current time
+     * from {@code clock}.
+     */
+    public FreeSlotsCommand(FreeSlotQuery query, Clock clock) {
+        requireNonNull(query);
+        requireNonNull(clock);
+        this.query = query;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Session> slots = model.findFreeSlots(query, clock);
+        if (slots.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_FREE_SLOTS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, slots.size()));
+        for (int i = 0; i < slots.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(slots.get(i));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherCommand = (FreeSlotsCommand) other;
+        return query.equals(otherCommand.query) && clock.equals(otherCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("clock", clock)
+                .toString();
+    }
+}
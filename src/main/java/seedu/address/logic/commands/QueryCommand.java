@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Lists all persons in address book that meet every condition of a {@code PersonQuery}, and reports how the
+ * query was run and how long it took.
+ * <p>
+ * The query only tests the candidates of its most selective condition, but the matches are shown by filtering the
+ * displayed list by name, which is one more pass over every person. The reported time includes that pass.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_QUERY_PLAN = "Query took %1$.2f ms, starting from %2$s (%3$d candidate(s)).";
+
+    private final PersonQuery query;
+
+    /**
+     * Creates a QueryCommand to list the persons that meet {@code query}.
+     */
+    public QueryCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        long start = System.nanoTime();
+        PersonQuery.QueryResult result = model.runQuery(query);
+        Set<Name> matches = result.getMatches();
+        model.updateFilteredPersonList(person -> matches.contains(person.getName()));
+        double elapsedMillis = (System.nanoTime() - start) / 1e6;
+
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matches.size()) + "\n"
+                + String.format(MESSAGE_QUERY_PLAN, elapsedMillis, result.getStartingCondition().getDescription(),
+                        result.getCandidateCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+
+/**
+ * Finds and lists all persons in address book whose name has a word that equals, starts with, or is one typo away
+ * from any of the argument keywords, best matches first.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain words that "
+            + "start with or nearly match any of the specified keywords (case-insensitive) and displays them as a "
+            + "list with index numbers, best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alex bernce";
+
+    public static final String MESSAGE_NO_RESULTS = "No results found for that keyword!";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to search for persons matching {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Name> names = model.searchNames(keywords);
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            ranks.put(names.get(i), i);
+        }
+
+        model.updateFilteredPersonList(person -> ranks.containsKey(person.getName()), Comparator.comparingInt(person ->
+                ranks.getOrDefault(person.getName(), Integer.MAX_VALUE)));
+        return names.isEmpty()
+                ? new CommandResult(MESSAGE_NO_RESULTS)
+                : new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, names.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonNameComparator;
+
+/**
+ * Sorts the person list by name.
+ * <p>A to Z by default; accepts "desc" to invert.</p>
+ */
+public class SortByNameCommand extends Command {
+
+    public static final String COMMAND_WORD = "sortbyname";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the person list by name (A to Z by default). \n"
+            + "Parameters: [asc|desc]\n"
+            + "Example: " + COMMAND_WORD + " desc";
+
+    public static final String MESSAGE_SUCCESS_ASC = "Sorted by name (A to Z).";
+    public static final String MESSAGE_SUCCESS_DESC = "Sorted by name (Z to A).";
+
+    private final boolean ascending;
+
+    public SortByNameCommand(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setPersonListComparator(new PersonNameComparator(ascending, model.getAddressBook().getPersonList()));
+        return new CommandResult(ascending ? MESSAGE_SUCCESS_ASC : MESSAGE_SUCCESS_DESC, false, false, true, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SortByNameCommand
+                && ((SortByNameCommand) other).ascending == this.ascending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(ascending);
+    }
+}
@@ -20,7 +20,7 @@ public class SortBySessionCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.setPersonListComparator(new PersonSessionComparator());
+        model.setPersonListComparator(new PersonSessionComparator(model.getAddressBook().getPersonList()));
         return new CommandResult(MESSAGE_SUCCESS, false, false, true, false);
     }
 
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AgeCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.BodyfatCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClientCommand;
@@ -17,17 +18,21 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DashboardCommand;
 import seedu.address.logic.commands.DeadlineCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DueCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.GenderCommand;
 import seedu.address.logic.commands.GoalCommand;
 import seedu.address.logic.commands.HeightCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PaidCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SessionCommand;
 import seedu.address.logic.commands.SortByDeadlineCommand;
+import seedu.address.logic.commands.SortByNameCommand;
 import seedu.address.logic.commands.SortByPaidCommand;
 import seedu.address.logic.commands.SortBySessionCommand;
 import seedu.address.logic.commands.WeightCommand;
@@ -83,6 +88,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case GoalCommand.COMMAND_WORD:
             return new GoalCommandParser().parse(arguments);
 
@@ -110,6 +118,9 @@ public class AddressBookParser {
         case SortByDeadlineCommand.COMMAND_WORD:
             return new SortByDeadlineCommandParser().parse(arguments);
 
+        case SortByNameCommand.COMMAND_WORD:
+            return new SortByNameCommandParser().parse(arguments);
+
         case SortByPaidCommand.COMMAND_WORD:
             return new SortByPaidCommandParser().parse(arguments);
 
@@ -119,6 +130,15 @@ public class AddressBookParser {
         case SortBySessionCommand.COMMAND_WORD:
             return new SortBySessionCommandParser().parse(arguments);
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
+        case AgendaCommand.COMMAND_WORD:
+            return new AgendaCommandParser().parse(arguments);
+
+        case DueCommand.COMMAND_WORD:
+            return new DueCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
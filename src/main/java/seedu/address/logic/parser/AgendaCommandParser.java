@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.AgendaCommand.Period;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code AgendaCommand} object.
+ * <p>
+ * Usage: {@code agenda [day|week|month] [YYYY-MM-DD]}, which defaults to the week of today.
+ */
+public class AgendaCommandParser implements Parser<AgendaCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code AgendaCommand}
+     * and returns an {@code AgendaCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AgendaCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmed = args.trim();
+        String[] tokens = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+        if (tokens.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+
+        Period period = Period.WEEK;
+        LocalDate date = LocalDate.now();
+        int next = 0;
+        if (next < tokens.length && isPeriod(tokens[next])) {
+            period = Period.valueOf(tokens[next].toUpperCase(Locale.ROOT));
+            next++;
+        }
+        if (next < tokens.length) {
+            date = parseDate(tokens[next]);
+            next++;
+        }
+        if (next < tokens.length) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE));
+        }
+        return new AgendaCommand(period, date);
+    }
+
+    private static boolean isPeriod(String token) {
+        for (Period period : Period.values()) {
+            if (period.name().equalsIgnoreCase(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDate parseDate(String token) throws ParseException {
+        try {
+            return LocalDate.parse(token);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
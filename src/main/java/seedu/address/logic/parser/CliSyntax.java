@@ -20,5 +20,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_DEADLINE = new Prefix("dl/");
     public static final Prefix PREFIX_BODYFAT = new Prefix("bf/");
     public static final Prefix PREFIX_SESSION = new Prefix("s/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_DAYS = new Prefix("days/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_TYPE = new Prefix("type/");
+    public static final Prefix PREFIX_COUNT = new Prefix("count/");
 
 }
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.DueCommand;
+import seedu.address.logic.commands.DueCommand.View;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code DueCommand} object.
+ * <p>
+ * Usage: {@code due [overdue|DAYS]}, which lists every unpaid client without arguments.
+ */
+public class DueCommandParser implements Parser<DueCommand> {
+
+    private static final String OVERDUE = "overdue";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code DueCommand}
+     * and returns a {@code DueCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public DueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmed = args.trim();
+        LocalDate today = LocalDate.now();
+        if (trimmed.isEmpty()) {
+            return new DueCommand(View.UNPAID, 0, today);
+        }
+        if (trimmed.equalsIgnoreCase(OVERDUE)) {
+            return new DueCommand(View.OVERDUE, 0, today);
+        }
+        if (!trimmed.matches("\\d{1,4}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        }
+        return new DueCommand(View.WITHIN, Integer.parseInt(trimmed), today);
+    }
+}
@@ -1,33 +1,177 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BODYFAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.RangeField;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a QueryCommand object if any field conditions
+ * are given.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
+
+    public static final String MESSAGE_CONSTRAINTS_RANGE = "Ranges must be VALUE, <VALUE, <=VALUE, >VALUE, >=VALUE "
+            + "or LOW..HIGH (also LOW-HIGH for numbers), with dates in the format yyyy-MM-dd.";
+
+    private static final Map<Prefix, RangeField> RANGE_PREFIXES = Map.of(PREFIX_DEADLINE, RangeField.DEADLINE,
+            PREFIX_AGE, RangeField.AGE, PREFIX_HEIGHT, RangeField.HEIGHT, PREFIX_WEIGHT, RangeField.WEIGHT,
+            PREFIX_BODYFAT, RangeField.BODYFAT);
+    private static final Prefix[] RANGE_PREFIX_ORDER = {PREFIX_DEADLINE, PREFIX_AGE, PREFIX_HEIGHT, PREFIX_WEIGHT,
+        PREFIX_BODYFAT};
+    private static final Prefix[] QUERY_PREFIXES = Stream.concat(Stream.of(PREFIX_TAG, PREFIX_PAID, PREFIX_TYPE,
+            PREFIX_DAYS), Arrays.stream(RANGE_PREFIX_ORDER)).toArray(Prefix[]::new);
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand object, or a QueryCommand object if any field conditions are given, for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, QUERY_PREFIXES);
+        if (Arrays.stream(QUERY_PREFIXES).noneMatch(prefix -> argMultimap.getValue(prefix).isPresent())) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAID, PREFIX_TYPE, PREFIX_DAYS);
+        return new QueryCommand(new PersonQuery(parseConditions(argMultimap)));
+    }
+
+    private static List<QueryCondition> parseConditions(ArgumentMultimap argMultimap) throws ParseException {
+        List<QueryCondition> conditions = new ArrayList<>();
+        String preamble = argMultimap.getPreamble().trim();
+        if (!preamble.isEmpty()) {
+            conditions.add(QueryCondition.nameHasAnyWord(Arrays.asList(preamble.split("\\s+"))));
+        }
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            conditions.add(QueryCondition.matchesTags(parseTagFilter(argMultimap.getAllValues(PREFIX_TAG))));
+        }
+        if (argMultimap.getValue(PREFIX_PAID).isPresent()) {
+            conditions.add(QueryCondition.isPaid(ParserUtil.parsePaid(argMultimap.getValue(PREFIX_PAID).get()).value));
+        }
+        for (Prefix prefix : RANGE_PREFIX_ORDER) {
+            for (String range : argMultimap.getAllValues(prefix)) {
+                conditions.add(parseRange(RANGE_PREFIXES.get(prefix), range));
+            }
+        }
+        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
+            SessionType type = ParserUtil.parseSessionType(argMultimap.getValue(PREFIX_TYPE).get());
+            conditions.add(QueryCondition.hasSessionType(type));
+        }
+        if (argMultimap.getValue(PREFIX_DAYS).isPresent()) {
+            conditions.add(QueryCondition.hasSessionOn(ParserUtil.parseDays(argMultimap.getValue(PREFIX_DAYS).get())));
+        }
+        return conditions;
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Parses tag conditions into one filter: {@code TAG} requires a tag, {@code !TAG} excludes it, and
+     * {@code TAG|TAG...} requires at least one of the tags.
+     */
+    static TagFilter parseTagFilter(List<String> values) throws ParseException {
+        Set<Tag> required = new HashSet<>();
+        List<Set<Tag>> alternatives = new ArrayList<>();
+        Set<Tag> excluded = new HashSet<>();
+        for (String value : values) {
+            String trimmed = value.trim();
+            if (trimmed.startsWith("!")) {
+                excluded.add(ParserUtil.parseTag(trimmed.substring(1)));
+            } else if (trimmed.contains("|")) {
+                Set<Tag> group = new HashSet<>();
+                for (String tag : trimmed.split("\\|", -1)) {
+                    group.add(ParserUtil.parseTag(tag));
+                }
+                alternatives.add(group);
+            } else {
+                required.add(ParserUtil.parseTag(trimmed));
+            }
+        }
+        return new TagFilter(required, alternatives, excluded);
+    }
+
+    /**
+     * Parses a range of {@code field}, such as {@code 30-40}, {@code <2026-11-01} or {@code >=60.5}.
+     */
+    static QueryCondition parseRange(RangeField field, String range) throws ParseException {
+        String trimmed = range.trim();
+        double min = Double.NEGATIVE_INFINITY;
+        double max = Double.POSITIVE_INFINITY;
+        if (trimmed.startsWith("<=")) {
+            max = parseValue(field, trimmed.substring(2));
+        } else if (trimmed.startsWith("<")) {
+            max = Math.nextDown(parseValue(field, trimmed.substring(1)));
+        } else if (trimmed.startsWith(">=")) {
+            min = parseValue(field, trimmed.substring(2));
+        } else if (trimmed.startsWith(">")) {
+            min = Math.nextUp(parseValue(field, trimmed.substring(1)));
+        } else if (trimmed.contains("..")) {
+            String[] ends = trimmed.split("\\.\\.", -1);
+            min = parseValue(field, ends[0]);
+            max = parseValue(field, ends.length == 2 ? ends[1] : "");
+        } else if (field != RangeField.DEADLINE && trimmed.contains("-")) {
+            String[] ends = trimmed.split("-", -1);
+            min = parseValue(field, ends[0]);
+            max = parseValue(field, ends.length == 2 ? ends[1] : "");
+        } else {
+            min = parseValue(field, trimmed);
+            max = min;
+        }
+
+        try {
+            return QueryCondition.inRange(field, min, max);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+
+    private static double parseValue(RangeField field, String value) throws ParseException {
+        String trimmed = value.trim();
+        if (field == RangeField.DEADLINE) {
+            try {
+                return LocalDate.parse(trimmed).toEpochDay();
+            } catch (DateTimeParseException e) {
+                throw new ParseException(MESSAGE_CONSTRAINTS_RANGE, e);
+            }
+        }
+        if (!trimmed.matches("\\d+(\\.\\d+)?")) {
+            throw new ParseException(MESSAGE_CONSTRAINTS_RANGE);
+        }
+        return Double.parseDouble(trimmed);
     }
 
 }
@@ -0,0 +1,93 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
+
+/**
+ * Parses input arguments and creates a new {@code FreeSlotsCommand} object.
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FreeSlotsCommand}
+     * and returns a {@code FreeSlotsCommand} object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DURATION, PREFIX_DAYS, PREFIX_FROM,
+                PREFIX_TO, PREFIX_TYPE, PREFIX_COUNT);
+
+        if (!argMultimap.getPreamble().isEmpty() || !argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION, PREFIX_DAYS, PREFIX_FROM, PREFIX_TO, PREFIX_TYPE,
+                PREFIX_COUNT);
+
+        int duration = parsePositiveInteger(argMultimap.getValue(PREFIX_DURATION).get(),
+                FreeSlotQuery.MESSAGE_CONSTRAINTS_DURATION);
+        Set<DayOfWeek> days = EnumSet.allOf(DayOfWeek.class);
+        if (argMultimap.getValue(PREFIX_DAYS).isPresent()) {
+            days = ParserUtil.parseDays(argMultimap.getValue(PREFIX_DAYS).get());
+        }
+        LocalTime from = parseTime(argMultimap.getValue(PREFIX_FROM), FreeSlotQuery.DEFAULT_FROM);
+        LocalTime to = parseTime(argMultimap.getValue(PREFIX_TO), FreeSlotQuery.DEFAULT_TO);
+        SessionType type = SessionType.WEEKLY;
+        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
+            type = ParserUtil.parseSessionType(argMultimap.getValue(PREFIX_TYPE).get());
+        }
+        int count = FreeSlotQuery.DEFAULT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            count = parsePositiveInteger(argMultimap.getValue(PREFIX_COUNT).get(),
+                    FreeSlotQuery.MESSAGE_CONSTRAINTS_COUNT);
+        }
+
+        try {
+            return new FreeSlotsCommand(new FreeSlotQuery(duration, days, from, to, type, count),
+                    Clock.systemDefaultZone());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+
+    private static int parsePositiveInteger(String value, String messageConstraints) throws ParseException {
+        String trimmed = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmed)) {
+            throw new ParseException(messageConstraints);
+        }
+        return Integer.parseInt(trimmed);
+    }
+
+    private static LocalTime parseTime(Optional<String> value, LocalTime defaultTime) throws ParseException {
+        if (value.isEmpty()) {
+            return defaultTime;
+        }
+        try {
+            return Session.parseSlotTime(value.get());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,6 +25,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Paid;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
 import seedu.address.model.person.Weight;
 import seedu.address.model.tag.Tag;
 
@@ -218,6 +222,52 @@ public class ParserUtil {
             throw new ParseException(ex.getMessage(), ex);
         }
     }
+
+    /**
+     * Parses a {@code String type} into a {@code SessionType}: weekly, biweekly, monthly or oneoff (or one-off).
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code type} is invalid.
+     */
+    public static SessionType parseSessionType(String type) throws ParseException {
+        requireNonNull(type);
+        switch (type.trim().toLowerCase(Locale.ROOT)) {
+        case "weekly":
+            return SessionType.WEEKLY;
+        case "biweekly":
+            return SessionType.BIWEEKLY;
+        case "monthly":
+            return SessionType.MONTHLY;
+        case "oneoff":
+        case "one-off":
+            return SessionType.ONE_OFF;
+        default:
+            throw new ParseException(Session.MESSAGE_CONSTRAINTS_TYPE);
+        }
+    }
+
+    /**
+     * Parses a comma-separated {@code String days}, such as {@code MON,WED,FRI}, into a set of days.
+     *
+     * @throws ParseException if any of the days is invalid, or no day is given.
+     */
+    public static Set<DayOfWeek> parseDays(String days) throws ParseException {
+        requireNonNull(days);
+        Set<DayOfWeek> parsedDays = EnumSet.noneOf(DayOfWeek.class);
+        try {
+            for (String day : days.split(",")) {
+                if (!day.isBlank()) {
+                    parsedDays.add(Session.parseDayOfWeek(day));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+        if (parsedDays.isEmpty()) {
+            throw new ParseException(Session.MESSAGE_CONSTRAINTS_DAYS);
+        }
+        return parsedDays;
+    }
     /**
      * Parses a {@code String height} into a {@code Height}.
      * Leading and trailing whitespaces will be trimmed.
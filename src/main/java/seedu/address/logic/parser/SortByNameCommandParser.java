@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import java.util.Locale;
+
+import seedu.address.logic.commands.SortByNameCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a {@link SortByNameCommand}.
+ */
+public class SortByNameCommandParser implements Parser<SortByNameCommand> {
+    @Override
+    public SortByNameCommand parse(String args) throws ParseException {
+        String t = args == null ? "" : args.trim().toLowerCase(Locale.ROOT);
+        if (t.isEmpty() || t.equals("asc")) {
+            return new SortByNameCommand(true);
+        }
+        if (t.equals("desc")) {
+            return new SortByNameCommand(false);
+        }
+        throw new ParseException(SortByNameCommand.MESSAGE_USAGE);
+    }
+}
@@ -2,12 +2,23 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionOccurrence;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.WeeklyOccupancy;
 
 /**
  * Wraps all data at the address-book level
@@ -120,6 +131,85 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns a number that changes whenever the persons in this address book change.
+     *
+     * @see UniquePersonList#getVersion()
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns a copy of the minutes of the week taken up by the weekly and biweekly sessions in this address book.
+     */
+    public WeeklyOccupancy getWeeklyOccupancy() {
+        return persons.getWeeklyOccupancy();
+    }
+
+    /**
+     * Returns the earliest free session slots that meet {@code query}, taking the current time from {@code clock}.
+     *
+     * @see UniquePersonList#findFreeSlots(FreeSlotQuery, Clock)
+     */
+    public List<Session> findFreeSlots(FreeSlotQuery query, Clock clock) {
+        return persons.findFreeSlots(query, clock);
+    }
+
+    /**
+     * Returns the session occurrences that start from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @see UniquePersonList#getSessionOccurrences(LocalDateTime, LocalDateTime)
+     */
+    public List<SessionOccurrence> getSessionOccurrences(LocalDateTime from, LocalDateTime to) {
+        return persons.getSessionOccurrences(from, to);
+    }
+
+    /**
+     * Returns the names of the persons that contain any of {@code keywords} as a whole word, ignoring case.
+     *
+     * @see UniquePersonList#findNamesContaining(Collection)
+     */
+    public Set<Name> findNamesContaining(Collection<String> keywords) {
+        return persons.findNamesContaining(keywords);
+    }
+
+    /**
+     * Returns the names of the persons that contain a word matching any of {@code keywords}, best matches first.
+     *
+     * @see UniquePersonList#searchNames(Collection)
+     */
+    public List<Name> searchNames(Collection<String> keywords) {
+        return persons.searchNames(keywords);
+    }
+
+    /**
+     * Returns every unpaid person ordered by deadline, earliest first, followed by those without one.
+     *
+     * @see UniquePersonList#getUnpaidByDeadline()
+     */
+    public List<Person> getUnpaidByDeadline() {
+        return persons.getUnpaidByDeadline();
+    }
+
+    /**
+     * Returns the unpaid persons with a deadline from {@code from} to {@code to}, both inclusive, earliest first.
+     *
+     * @see UniquePersonList#getUnpaidDueBetween(LocalDate, LocalDate)
+     */
+    public List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to) {
+        return persons.getUnpaidDueBetween(from, to);
+    }
+
+    /**
+     * Runs {@code query} against the persons in this address book.
+     *
+     * @see UniquePersonList#runQuery(PersonQuery)
+     */
+    public PersonQuery.QueryResult runQuery(PersonQuery query) {
+        return persons.runQuery(query);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -1,12 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionOccurrence;
 
 /**
  * The API of the Model component.
@@ -53,6 +64,53 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the AddressBook's data changes, so that callers can tell
+     * whether it needs to be saved again.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the earliest free session slots that meet {@code query} and do not conflict with any existing session,
+     * taking the current time from {@code clock}.
+     */
+    List<Session> findFreeSlots(FreeSlotQuery query, Clock clock);
+
+    /**
+     * Returns the occurrences of the sessions in the address book that start from {@code from} (inclusive) to
+     * {@code to} (exclusive), ordered by start.
+     */
+    List<SessionOccurrence> getSessionOccurrences(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the names of the persons in the address book that contain any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    Set<Name> findNamesContaining(Collection<String> keywords);
+
+    /**
+     * Returns the names of the persons in the address book that contain a word equal to, starting with, or one typo
+     * away from any of {@code keywords}, ignoring case, best matches first.
+     */
+    List<Name> searchNames(Collection<String> keywords);
+
+    /**
+     * Returns every unpaid person in the address book ordered by deadline, earliest first, followed by those without
+     * one.
+     */
+    List<Person> getUnpaidByDeadline();
+
+    /**
+     * Returns the unpaid persons in the address book with a deadline from {@code from} to {@code to}, both
+     * inclusive, earliest first.
+     */
+    List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Runs {@code query} against the persons in the address book, starting from its most selective condition.
+     */
+    PersonQuery.QueryResult runQuery(PersonQuery query);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -96,6 +154,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * persons shown by {@code order} until the filter is next updated, when the order set by
+     * {@link #setPersonListComparator(Comparator)} applies again.
+     * @throws NullPointerException if {@code predicate} or {@code order} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order);
+
     /**
      * Sorts the person list by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
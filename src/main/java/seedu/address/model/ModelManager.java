@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +19,12 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionOccurrence;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,6 +36,8 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    /** Order set by {@link #setPersonListComparator}, or null for the order of the address book. */
+    private Comparator<Person> personListComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -91,6 +104,52 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public List<Session> findFreeSlots(FreeSlotQuery query, Clock clock) {
+        requireAllNonNull(query, clock);
+        return addressBook.findFreeSlots(query, clock);
+    }
+
+    @Override
+    public List<SessionOccurrence> getSessionOccurrences(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getSessionOccurrences(from, to);
+    }
+
+    @Override
+    public Set<Name> findNamesContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findNamesContaining(keywords);
+    }
+
+    @Override
+    public List<Name> searchNames(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchNames(keywords);
+    }
+
+    @Override
+    public List<Person> getUnpaidByDeadline() {
+        return addressBook.getUnpaidByDeadline();
+    }
+
+    @Override
+    public List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return addressBook.getUnpaidDueBetween(from, to);
+    }
+
+    @Override
+    public PersonQuery.QueryResult runQuery(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.runQuery(query);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -142,6 +201,14 @@ public class ModelManager implements Model {
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(personListComparator);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+        requireAllNonNull(predicate, order);
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(order);
     }
 
     @Override
@@ -169,11 +236,13 @@ public class ModelManager implements Model {
     //============ Sort Person List ===========================================================================
     @Override
     public void setPersonListComparator(Comparator<Person> comparator) {
+        personListComparator = comparator;
         sortedPersons.setComparator(comparator);
     }
 
     @Override
     public void resetPersonListOrder() {
+        personListComparator = null;
         sortedPersons.setComparator(null); // restores underlying/insertion order
     }
 
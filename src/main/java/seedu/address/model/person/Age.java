@@ -27,19 +27,35 @@ public class Age {
         this.value = Integer.parseInt(age);
     }
 
+    /**
+     * Constructs a {@code Age} from an already parsed value.
+     *
+     * @param age A valid age in years.
+     */
+    public Age(int age) {
+        checkArgument(isValidAge(age), MESSAGE_CONSTRAINTS);
+        this.value = age;
+    }
+
     /**
      * Returns true if a given string is a valid age.
      * Only positive numbers between 1 and 120.
      */
     public static boolean isValidAge(String ageInput) {
         try {
-            int age = Integer.parseInt(ageInput);
-            return age >= 1 && age <= 120;
+            return isValidAge(Integer.parseInt(ageInput));
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
+    /**
+     * Returns true if a given age in years is within the accepted range.
+     */
+    public static boolean isValidAge(int age) {
+        return age >= 1 && age <= 120;
+    }
+
     @Override
     public String toString() {
         return String.valueOf(value);
@@ -31,6 +31,17 @@ public class Bodyfat {
         value = Double.parseDouble(bodyfat);
     }
 
+    /**
+     * Constructs a {@code Bodyfat} from an already parsed value, such as one read back from storage.
+     * Only the range is checked, as the value no longer has a textual format.
+     *
+     * @param bodyfat The body fat percentage.
+     */
+    public Bodyfat(double bodyfat) {
+        checkArgument(isValidBodyfat(bodyfat), MESSAGE_CONSTRAINTS);
+        value = bodyfat;
+    }
+
     /**
      * Returns true if a given string is a valid body fat percentage.
      * Acceptable range: 5.0–60.0 inclusive, up to 1 decimal place.
@@ -42,13 +53,19 @@ public class Bodyfat {
         }
 
         try {
-            double bodyfat = Double.parseDouble(bodyfatInput);
-            return bodyfat >= 5.0 && bodyfat <= 60.0;
+            return isValidBodyfat(Double.parseDouble(bodyfatInput));
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
+    /**
+     * Returns true if a given body fat percentage is within the accepted range.
+     */
+    public static boolean isValidBodyfat(double bodyfat) {
+        return bodyfat >= 5.0 && bodyfat <= 60.0;
+    }
+
     @Override
     public String toString() {
         return String.valueOf(value);
@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of the unpaid persons in a list ordered by their payment deadline, used to list the overdue persons, the
+ * persons due in a range of days, or every unpaid person by deadline without filtering and sorting the whole list.
+ * <p>
+ * Deadlines are keyed by their number of days since the epoch, so a range of days is found with one range lookup.
+ * Persons due on the same day are ordered by name, and unpaid persons without a deadline are kept apart and come last.
+ * Paid persons are not indexed. Adding and removing a person takes logarithmic time, so edits to a person's deadline
+ * or paid status are applied by removing the old person and adding the edited one.
+ */
+public class DeadlineIndex {
+
+    /** Key of persons without a deadline, which sorts after every deadline. */
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /** Unpaid persons keyed by deadline, then by full name. Persons without a deadline are under NO_DEADLINE. */
+    private final NavigableMap<Long, NavigableMap<String, Person>> unpaidByDay = new TreeMap<>();
+
+    private int size;
+
+    /**
+     * Adds {@code person} to the index if it is unpaid.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (isPaid(person)) {
+            return;
+        }
+        NavigableMap<String, Person> persons = unpaidByDay.computeIfAbsent(dayKey(person), unused -> new TreeMap<>());
+        if (persons.put(person.getName().fullName, person) == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        long key = dayKey(person);
+        NavigableMap<String, Person> persons = unpaidByDay.get(key);
+        if (persons != null && persons.remove(person.getName().fullName, person)) {
+            size--;
+            if (persons.isEmpty()) {
+                unpaidByDay.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        unpaidByDay.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of unpaid persons in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns every unpaid person ordered by deadline, earliest first, followed by those without a deadline.
+     */
+    public List<Person> getUnpaidByDeadline() {
+        return collect(unpaidByDay);
+    }
+
+    /**
+     * Returns the unpaid persons with a deadline from {@code from} to {@code to}, both inclusive, earliest first.
+     */
+    public List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return collect(unpaidByDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true));
+    }
+
+    /**
+     * Returns the key of {@code person}'s deadline: its number of days since the epoch, or {@link #NO_DEADLINE}.
+     */
+    static long dayKey(Person person) {
+        Deadline deadline = person.getDeadline();
+        return deadline == null ? NO_DEADLINE : deadline.asOptional().map(LocalDate::toEpochDay).orElse(NO_DEADLINE);
+    }
+
+    static boolean isPaid(Person person) {
+        return person.getPaymentStatus() == null || person.getPaymentStatus().value;
+    }
+
+    private static List<Person> collect(Map<Long, NavigableMap<String, Person>> byDay) {
+        List<Person> persons = new ArrayList<>();
+        byDay.values().forEach(personsOnDay -> persons.addAll(personsOnDay.values()));
+        return persons;
+    }
+}
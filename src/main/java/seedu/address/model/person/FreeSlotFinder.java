@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.person.Session.SessionType;
+
+/**
+ * Finds the earliest free session slots for a {@link FreeSlotQuery}, using the {@link WeeklyOccupancy} and
+ * {@link ScheduleIndex} of the existing sessions instead of comparing against every person.
+ * <p>
+ * Candidate slots start on a grid of {@link #SLOT_STEP_MINUTES} minutes from the start of the time window.
+ * The occupancy bitmap rules out candidates that overlap a weekly or biweekly slot, and every remaining candidate
+ * is confirmed against the index with the same conflict rules as adding a person. Slots found do not overlap one
+ * another. Weekly and biweekly slots are ordered by day from Monday, and one-off slots by date from today, looking
+ * up to {@link #ONE_OFF_SEARCH_DAYS} days ahead.
+ */
+class FreeSlotFinder {
+
+    static final int SLOT_STEP_MINUTES = 15;
+    static final int ONE_OFF_SEARCH_DAYS = 28;
+
+    private static final DateTimeFormatter TIME_FORMATTER_COMPACT = DateTimeFormatter.ofPattern("HHmm");
+    private static final DateTimeFormatter ONE_OFF_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm");
+
+    private final ScheduleIndex scheduleIndex;
+    private final WeeklyOccupancy weeklyOccupancy;
+
+    FreeSlotFinder(ScheduleIndex scheduleIndex, WeeklyOccupancy weeklyOccupancy) {
+        requireAllNonNull(scheduleIndex, weeklyOccupancy);
+        this.scheduleIndex = scheduleIndex;
+        this.weeklyOccupancy = weeklyOccupancy;
+    }
+
+    /**
+     * Returns up to {@code query.getCount()} free slots as sessions, earliest first, relative to {@code clock}.
+     */
+    List<Session> find(FreeSlotQuery query, Clock clock) {
+        requireAllNonNull(query, clock);
+        return query.getType() == SessionType.ONE_OFF ? findOneOff(query, clock) : findRecurring(query, clock);
+    }
+
+    private List<Session> findRecurring(FreeSlotQuery query, Clock clock) {
+        List<Session> slots = new ArrayList<>();
+        int duration = query.getDurationMinutes();
+        for (DayOfWeek day : query.getDays()) {
+            int start = toMinuteOfDay(query.getFrom());
+            while (slots.size() < query.getCount() && start + duration <= toMinuteOfDay(query.getTo())) {
+                LocalTime startTime = LocalTime.MIDNIGHT.plusMinutes(start);
+                LocalTime endTime = startTime.plusMinutes(duration);
+                if (weeklyOccupancy.isFree(day, startTime, endTime)) {
+                    Session candidate = Session.fromString(query.getType() + ":"
+                            + day.name().substring(0, 3).toUpperCase(Locale.ROOT) + "-"
+                            + startTime.format(TIME_FORMATTER_COMPACT) + "-" + endTime.format(TIME_FORMATTER_COMPACT),
+                            clock);
+                    if (scheduleIndex.findConflict(candidate, null).isEmpty()) {
+                        slots.add(candidate);
+                        start += duration;
+                        continue;
+                    }
+                }
+                start += SLOT_STEP_MINUTES;
+            }
+        }
+        return slots;
+    }
+
+    private List<Session> findOneOff(FreeSlotQuery query, Clock clock) {
+        List<Session> slots = new ArrayList<>();
+        int duration = query.getDurationMinutes();
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int i = 0; i < ONE_OFF_SEARCH_DAYS && slots.size() < query.getCount(); i++) {
+            LocalDate date = now.toLocalDate().plusDays(i);
+            if (!query.getDays().contains(date.getDayOfWeek())) {
+                continue;
+            }
+
+            int start = toMinuteOfDay(query.getFrom());
+            while (slots.size() < query.getCount() && start + duration <= toMinuteOfDay(query.getTo())) {
+                LocalDateTime startDateTime = date.atStartOfDay().plusMinutes(start);
+                LocalDateTime endDateTime = startDateTime.plusMinutes(duration);
+                if (!startDateTime.isBefore(now)
+                        && weeklyOccupancy.isFree(date.getDayOfWeek(), startDateTime.toLocalTime(),
+                                endDateTime.toLocalTime())
+                        && !scheduleIndex.hasDatedSessionWithin(startDateTime, endDateTime)) {
+                    Session candidate = Session.fromString(startDateTime.format(ONE_OFF_FORMATTER), clock);
+                    if (scheduleIndex.findConflict(candidate, null).isEmpty()) {
+                        slots.add(candidate);
+                        start += duration;
+                        continue;
+                    }
+                }
+                start += SLOT_STEP_MINUTES;
+            }
+        }
+        return slots;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
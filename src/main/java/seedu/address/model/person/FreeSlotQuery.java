@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Session.SessionType;
+
+/**
+ * Describes the free session slots to look for: how long they are, which days and time window they may fall in,
+ * what type of session they are for and how many to find.
+ * Guarantees: immutable; the slot fits in the time window and is not for a monthly session.
+ */
+public class FreeSlotQuery {
+
+    public static final int DEFAULT_COUNT = 5;
+    public static final LocalTime DEFAULT_FROM = LocalTime.of(0, 0);
+    public static final LocalTime DEFAULT_TO = LocalTime.of(23, 59);
+
+    public static final String MESSAGE_CONSTRAINTS_DURATION = "Duration must be a positive number of minutes.";
+    public static final String MESSAGE_CONSTRAINTS_WINDOW =
+            "The time window must start before it ends and be long enough for the duration.";
+    public static final String MESSAGE_CONSTRAINTS_TYPE = "Free slots can only be found for weekly, biweekly "
+            + "or one-off sessions.";
+    public static final String MESSAGE_CONSTRAINTS_COUNT = "Number of slots must be a positive integer.";
+
+    private final int durationMinutes;
+    private final Set<DayOfWeek> days;
+    private final LocalTime from;
+    private final LocalTime to;
+    private final SessionType type;
+    private final int count;
+
+    /**
+     * Constructs a {@code FreeSlotQuery} for {@code count} slots of {@code durationMinutes} minutes on
+     * {@code days}, starting at or after {@code from} and ending at or before {@code to}.
+     */
+    public FreeSlotQuery(int durationMinutes, Set<DayOfWeek> days, LocalTime from, LocalTime to, SessionType type,
+            int count) {
+        requireAllNonNull(days, from, to, type);
+        checkArgument(durationMinutes > 0, MESSAGE_CONSTRAINTS_DURATION);
+        checkArgument(!days.isEmpty(), Session.MESSAGE_CONSTRAINTS_DAYS);
+        checkArgument(from.isBefore(to)
+                && from.toSecondOfDay() / 60 + durationMinutes <= to.toSecondOfDay() / 60, MESSAGE_CONSTRAINTS_WINDOW);
+        checkArgument(type != SessionType.MONTHLY, MESSAGE_CONSTRAINTS_TYPE);
+        checkArgument(count > 0, MESSAGE_CONSTRAINTS_COUNT);
+        this.durationMinutes = durationMinutes;
+        this.days = Collections.unmodifiableSet(EnumSet.copyOf(days));
+        this.from = from;
+        this.to = to;
+        this.type = type;
+        this.count = count;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Returns the allowed days, in order from Monday.
+     */
+    public Set<DayOfWeek> getDays() {
+        return days;
+    }
+
+    public LocalTime getFrom() {
+        return from;
+    }
+
+    public LocalTime getTo() {
+        return to;
+    }
+
+    public SessionType getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotQuery)) {
+            return false;
+        }
+
+        FreeSlotQuery otherQuery = (FreeSlotQuery) other;
+        return durationMinutes == otherQuery.durationMinutes
+                && days.equals(otherQuery.days)
+                && from.equals(otherQuery.from)
+                && to.equals(otherQuery.to)
+                && type == otherQuery.type
+                && count == otherQuery.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(durationMinutes, days, from, to, type, count);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("durationMinutes", durationMinutes)
+                .add("days", days)
+                .add("from", from)
+                .add("to", to)
+                .add("type", type)
+                .add("count", count)
+                .toString();
+    }
+}
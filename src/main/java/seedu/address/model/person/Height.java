@@ -28,19 +28,35 @@ public class Height {
         value = Integer.parseInt(height);
     }
 
+    /**
+     * Constructs an {@code Height} from an already parsed value.
+     *
+     * @param height A valid height in cm.
+     */
+    public Height(int height) {
+        checkArgument(isValidHeight(height), MESSAGE_CONSTRAINTS);
+        value = height;
+    }
+
     /**
      * Returns true if a given string is a valid height.
      * Only integers strictly between 50cm and 300cm are accepted.
      */
     public static boolean isValidHeight(String heightInput) {
         try {
-            int height = Integer.parseInt(heightInput);
-            return height >= 50 && height <= 300;
+            return isValidHeight(Integer.parseInt(heightInput));
         } catch (NumberFormatException e) {
             return false;
         }
     }
 
+    /**
+     * Returns true if a given height in cm is within the accepted range.
+     */
+    public static boolean isValidHeight(int height) {
+        return height >= 50 && height <= 300;
+    }
+
     @Override
     public String toString() {
         return value + " cm";
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * A table of the weekdays that each day of month falls on within a number of months, starting from the month
+ * that a clock is currently in. The weekdays of each day of month are kept as a bitmask, with bit
+ * {@code day.getValue() - 1} set for each {@code DayOfWeek day}.
+ * <p>
+ * The most recently built table is cached, so looking up a day of month only reads the clock and an array
+ * until the clock moves into the next month.
+ */
+final class MonthlyWeekdayTable {
+
+    private static final int MAX_DAY_OF_MONTH = 31;
+
+    private static volatile MonthlyWeekdayTable cached;
+
+    private final ZoneId zone;
+    private final int months;
+    private final long validFromMillis;
+    private final long validUntilMillis;
+    private final int[] weekdayMasks = new int[MAX_DAY_OF_MONTH + 1];
+
+    private MonthlyWeekdayTable(YearMonth start, ZoneId zone, int months) {
+        this.zone = zone;
+        this.months = months;
+        this.validFromMillis = start.atDay(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        this.validUntilMillis = start.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        for (int i = 0; i < months; i++) {
+            YearMonth month = start.plusMonths(i);
+            for (int dayOfMonth = 1; dayOfMonth <= month.lengthOfMonth(); dayOfMonth++) {
+                weekdayMasks[dayOfMonth] |= bit(month.atDay(dayOfMonth).getDayOfWeek());
+            }
+        }
+    }
+
+    /**
+     * Returns the bit that represents {@code day} in a weekday mask.
+     */
+    static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    /**
+     * Returns the weekday mask of the days that {@code dayOfMonth} falls on in the {@code months} months
+     * starting from the current month of {@code clock}. Months too short to have {@code dayOfMonth} are skipped.
+     */
+    static int weekdayMask(Clock clock, int dayOfMonth, int months) {
+        MonthlyWeekdayTable table = cached;
+        if (table == null || !table.isValidFor(clock, months)) {
+            table = new MonthlyWeekdayTable(YearMonth.now(clock), clock.getZone(), months);
+            cached = table;
+        }
+        return table.weekdayMasks[dayOfMonth];
+    }
+
+    private boolean isValidFor(Clock clock, int months) {
+        long now = clock.millis();
+        return this.months == months && zone.equals(clock.getZone())
+                && now >= validFromMillis && now < validUntilMillis;
+    }
+}
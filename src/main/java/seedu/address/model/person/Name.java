@@ -3,9 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * <p>
+ * The lower case words of the name are computed once, when the name is created, so that matching keywords does not
+ * split and convert the full name again.
  */
 public class Name {
 
@@ -20,6 +28,10 @@ public class Name {
 
     public final String fullName;
 
+    /** Words of {@code fullName} in lower case. */
+    private final String[] words;
+    private final List<String> unmodifiableWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +41,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        words = name.toLowerCase(Locale.ROOT).split("\\s+");
+        unmodifiableWords = Collections.unmodifiableList(Arrays.asList(words));
     }
 
     /**
@@ -38,6 +52,33 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code word} in the form in which it is compared with the words of a name: trimmed and in lower case.
+     */
+    public static String normalizeWord(String word) {
+        requireNonNull(word);
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the words of this name in lower case, in order.
+     */
+    public List<String> getWords() {
+        return unmodifiableWords;
+    }
+
+    /**
+     * Returns true if this name contains {@code normalizedWord}, as returned by {@link #normalizeWord(String)},
+     * as a whole word.
+     */
+    public boolean containsWord(String normalizedWord) {
+        for (String word : words) {
+            if (word.equals(normalizedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
@@ -3,23 +3,38 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Keywords are normalized once, and compared with the words that the name has already split, so testing a person
+ * allocates nothing.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords} as a whole word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(Name::normalizeWord).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String keyword : normalizedKeywords) {
+            if (name.containsWord(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -0,0 +1,214 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the words of persons' names to their names, used to find persons by name keywords
+ * without splitting the name of every person.
+ * <p>
+ * Words are matched ignoring case, so a keyword matches the same persons as
+ * {@link NameContainsKeywordsPredicate}. The words of a name are those that {@link Name#getWords()} split once.
+ * <p>
+ * {@link #search(Collection)} also matches words that start with a keyword, found with a range lookup in the sorted
+ * words, and words one typo away from a keyword, found through the trigrams they share with it. A typo (an
+ * insertion, deletion, substitution or swap of adjacent letters) changes at most {@value #TRIGRAMS_PER_TYPO}
+ * trigrams, so only words sharing all but that many of the keyword's trigrams are compared letter by letter.
+ */
+public class NameTokenIndex {
+
+    /** Keywords shorter than this are only matched as whole words or prefixes, as most words are one typo away. */
+    public static final int MIN_TYPO_KEYWORD_LENGTH = 4;
+
+    static final int SCORE_WORD = 3;
+    static final int SCORE_PREFIX = 2;
+    static final int SCORE_TYPO = 1;
+
+    private static final int TRIGRAMS_PER_TYPO = 4;
+    private static final String PADDING = "$";
+
+    /** Names containing each word, keyed by the word in lower case. */
+    private final NavigableMap<String, Set<Name>> postings = new TreeMap<>();
+
+    /** Words in {@code postings} keyed by each of their trigrams. */
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the words of {@code person}'s name to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        for (String token : name.getWords()) {
+            postings.computeIfAbsent(token, this::addWord).add(name);
+        }
+    }
+
+    /**
+     * Removes the words of {@code person}'s name from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        for (String token : name.getWords()) {
+            Set<Name> names = postings.get(token);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                postings.remove(token);
+                removeWord(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        postings.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the names that contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Name> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            names.addAll(postings.getOrDefault(Name.normalizeWord(keyword), Set.of()));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names that contain a word that equals, starts with, or is one typo away from any of
+     * {@code keywords}, ignoring case. Names are ranked by the sum over the keywords of how well each matches:
+     * a whole word beats a prefix, which beats a typo. Names with the same score are ordered by name.
+     */
+    public List<Name> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Name, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            String word = Name.normalizeWord(keyword);
+            if (word.isEmpty()) {
+                continue;
+            }
+            Map<Name, Integer> keywordScores = new HashMap<>();
+            for (Map.Entry<String, Set<Name>> entry : postings.tailMap(word, true).entrySet()) {
+                if (!entry.getKey().startsWith(word)) {
+                    break;
+                }
+                score(entry.getValue(), entry.getKey().equals(word) ? SCORE_WORD : SCORE_PREFIX, keywordScores);
+            }
+            for (String similarWord : findWordsWithTypo(word)) {
+                score(postings.get(similarWord), SCORE_TYPO, keywordScores);
+            }
+            keywordScores.forEach((name, score) -> scores.merge(name, score, Integer::sum));
+        }
+
+        List<Name> names = new ArrayList<>(scores.keySet());
+        names.sort(Comparator.comparing((Name name) -> scores.get(name)).reversed()
+                .thenComparing(name -> name.fullName));
+        return names;
+    }
+
+    /**
+     * Records {@code score} for each of {@code names} in {@code scores}, unless a name already scored higher.
+     */
+    private static void score(Set<Name> names, int score, Map<Name, Integer> scores) {
+        for (Name name : names) {
+            scores.merge(name, score, Math::max);
+        }
+    }
+
+    /**
+     * Returns the indexed words, other than {@code word} and words starting with it, that are one typo away from
+     * {@code word}.
+     */
+    private List<String> findWordsWithTypo(String word) {
+        List<String> words = new ArrayList<>();
+        if (word.length() < MIN_TYPO_KEYWORD_LENGTH) {
+            return words;
+        }
+
+        Set<String> trigrams = trigramsOf(word);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(candidate, 1, Integer::sum);
+            }
+        }
+        int minShared = trigrams.size() - TRIGRAMS_PER_TYPO;
+        sharedTrigrams.forEach((candidate, shared) -> {
+            if (shared >= minShared && !candidate.startsWith(word) && isOneTypoApart(word, candidate)) {
+                words.add(candidate);
+            }
+        });
+        return words;
+    }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} by inserting, deleting or substituting one
+     * letter, or by swapping two adjacent letters.
+     */
+    static boolean isOneTypoApart(String first, String second) {
+        int lengthDifference = first.length() - second.length();
+        if (Math.abs(lengthDifference) > 1 || first.equals(second)) {
+            return false;
+        }
+
+        int prefix = 0;
+        while (prefix < first.length() && prefix < second.length() && first.charAt(prefix) == second.charAt(prefix)) {
+            prefix++;
+        }
+        if (lengthDifference > 0) {
+            return first.startsWith(second.substring(prefix), prefix + 1);
+        } else if (lengthDifference < 0) {
+            return second.startsWith(first.substring(prefix), prefix + 1);
+        } else if (first.startsWith(second.substring(prefix + 1), prefix + 1)) {
+            return true; // substitution
+        }
+        return prefix + 1 < first.length()
+                && first.charAt(prefix) == second.charAt(prefix + 1)
+                && first.charAt(prefix + 1) == second.charAt(prefix)
+                && first.startsWith(second.substring(prefix + 2), prefix + 2);
+    }
+
+    private Set<Name> addWord(String word) {
+        for (String trigram : trigramsOf(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+        return new HashSet<>();
+    }
+
+    private void removeWord(String word) {
+        for (String trigram : trigramsOf(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded so that every letter, including the first and last, is in
+     * three trigrams.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = PADDING + PADDING + word + PADDING + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
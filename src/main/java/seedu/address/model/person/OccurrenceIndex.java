@@ -0,0 +1,247 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the sessions of a set of persons, ordered by when they occur, used to list the session occurrences
+ * in a range of time without expanding the sessions of every person.
+ * <p>
+ * Weekly and biweekly slots are keyed by their start within the week, one-off sessions by their date and time, and
+ * monthly sessions by their start within the month. A range is answered week by week and month by month with a
+ * range lookup in each map, so only the sessions that occur in the range are looked at. Adding and removing a
+ * person takes logarithmic time per slot.
+ * <p>
+ * Occurrences are the same as those of {@link SessionOccurrences#between}: the first occurrence of a biweekly slot
+ * in a range is its next occurrence from the start of the range.
+ */
+public class OccurrenceIndex {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final long SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    /** Slots of weekly sessions, keyed by start within the week. */
+    private final NavigableMap<Long, Map<Person, Session.RecurringSlot>> weeklySlots = new TreeMap<>();
+    /** Slots of biweekly sessions, keyed by start within the week. */
+    private final NavigableMap<Long, Map<Person, Session.RecurringSlot>> biweeklySlots = new TreeMap<>();
+    /** Persons with one-off sessions, keyed by date and time. */
+    private final NavigableMap<LocalDateTime, Set<Person>> oneOffs = new TreeMap<>();
+    /** Persons with monthly sessions, keyed by start within the month. */
+    private final NavigableMap<Long, Set<Person>> monthlies = new TreeMap<>();
+
+    /**
+     * Adds {@code person}'s session to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Session session = person.getSession();
+        switch (session.getType()) {
+        case ONE_OFF:
+            oneOffs.computeIfAbsent(session.getOneOffDateTime(), unused -> new LinkedHashSet<>()).add(person);
+            break;
+        case MONTHLY:
+            monthlies.computeIfAbsent(monthKey(session.getDayOfMonth(), session.getTime()),
+                    unused -> new LinkedHashSet<>()).add(person);
+            break;
+        default:
+            NavigableMap<Long, Map<Person, Session.RecurringSlot>> slots = slotsOf(session);
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                slots.computeIfAbsent(weekKey(slot.getDay(), slot.getStart()), unused -> new LinkedHashMap<>())
+                        .put(person, slot);
+            }
+            break;
+        }
+    }
+
+    /**
+     * Removes {@code person}'s session from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Session session = person.getSession();
+        switch (session.getType()) {
+        case ONE_OFF:
+            removeFrom(oneOffs, session.getOneOffDateTime(), person);
+            break;
+        case MONTHLY:
+            removeFrom(monthlies, monthKey(session.getDayOfMonth(), session.getTime()), person);
+            break;
+        default:
+            NavigableMap<Long, Map<Person, Session.RecurringSlot>> slots = slotsOf(session);
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                long key = weekKey(slot.getDay(), slot.getStart());
+                Map<Person, Session.RecurringSlot> slotsAtKey = slots.get(key);
+                if (slotsAtKey != null && slotsAtKey.remove(person) != null && slotsAtKey.isEmpty()) {
+                    slots.remove(key);
+                }
+            }
+            break;
+        }
+    }
+
+    /**
+     * Removes every session from the index.
+     */
+    public void clear() {
+        weeklySlots.clear();
+        biweeklySlots.clear();
+        oneOffs.clear();
+        monthlies.clear();
+    }
+
+    /**
+     * Returns the occurrences of the indexed sessions that start from {@code from} (inclusive) to {@code to}
+     * (exclusive), ordered by start and then by person name.
+     */
+    public List<SessionOccurrence> between(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<SessionOccurrence> occurrences = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return occurrences;
+        }
+
+        oneOffs.subMap(from, true, to, false).forEach((dateTime, persons) ->
+                persons.forEach(person -> occurrences.add(new SessionOccurrence(person, dateTime, dateTime))));
+        addRecurringBetween(from, to, occurrences);
+        addMonthliesBetween(from, to, occurrences);
+
+        occurrences.sort(Comparator.comparing(SessionOccurrence::getStart)
+                .thenComparing(occurrence -> occurrence.getPerson().getName().fullName));
+        return occurrences;
+    }
+
+    /**
+     * Adds the occurrences of weekly and biweekly slots from {@code from} to {@code to} to {@code occurrences}.
+     * Biweekly slots occur every second week from their first occurrence at or after {@code from}.
+     */
+    private void addRecurringBetween(LocalDateTime from, LocalDateTime to, List<SessionOccurrence> occurrences) {
+        LocalDateTime firstWeek = from.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .atStartOfDay();
+        long fromKey = ChronoUnit.SECONDS.between(firstWeek, from);
+        int weekIndex = 0;
+        for (LocalDateTime week = firstWeek; week.isBefore(to); week = week.plusWeeks(1), weekIndex++) {
+            long startKey = weekIndex == 0 ? fromKey : 0;
+            long endKey = Math.min(SECONDS_PER_WEEK, ChronoUnit.SECONDS.between(week, to));
+            for (Map.Entry<Long, Map<Person, Session.RecurringSlot>> entry
+                    : weeklySlots.subMap(startKey, true, endKey, false).entrySet()) {
+                addSlotsAt(entry.getKey(), entry.getValue(), week, occurrences);
+            }
+            for (Map.Entry<Long, Map<Person, Session.RecurringSlot>> entry
+                    : biweeklySlots.subMap(startKey, true, endKey, false).entrySet()) {
+                if (firstWeekOf(entry.getKey(), fromKey) % 2 == weekIndex % 2) {
+                    addSlotsAt(entry.getKey(), entry.getValue(), week, occurrences);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the week, counted from the week of {@code from}, of the first occurrence at or after
+     * {@code from} of a biweekly slot starting at {@code key}. As in {@link Session#getNextOccurrence(LocalDateTime)},
+     * the slot first occurs on its next weekday, or two weeks later if it has already passed on the day of
+     * {@code from}.
+     */
+    private static int firstWeekOf(long key, long fromKey) {
+        if (key >= fromKey) {
+            return 0;
+        }
+        return key / SECONDS_PER_DAY == fromKey / SECONDS_PER_DAY ? 2 : 1;
+    }
+
+    private static void addSlotsAt(long key, Map<Person, Session.RecurringSlot> slots, LocalDateTime week,
+            List<SessionOccurrence> occurrences) {
+        LocalDate date = week.toLocalDate().plusDays(key / SECONDS_PER_DAY);
+        slots.forEach((person, slot) -> occurrences.add(
+                new SessionOccurrence(person, date.atTime(slot.getStart()), date.atTime(slot.getEnd()))));
+    }
+
+    /**
+     * Adds the occurrences of monthly sessions from {@code from} to {@code to} to {@code occurrences}.
+     */
+    private void addMonthliesBetween(LocalDateTime from, LocalDateTime to, List<SessionOccurrence> occurrences) {
+        for (YearMonth month = YearMonth.from(from); month.atDay(1).atStartOfDay().isBefore(to);
+                month = month.plusMonths(1)) {
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            addMonthliesIn(month, from.isAfter(monthStart) ? from : monthStart, to.isBefore(monthEnd) ? to : monthEnd,
+                    occurrences);
+        }
+    }
+
+    /**
+     * Adds the occurrences of monthly sessions in {@code month} from {@code start} to {@code end}, which are both
+     * in {@code month} or at the start of the next month, to {@code occurrences}.
+     * Monthly sessions on days that the month is too short for occur on its last day.
+     */
+    private void addMonthliesIn(YearMonth month, LocalDateTime start, LocalDateTime end,
+            List<SessionOccurrence> occurrences) {
+        int lastDay = month.lengthOfMonth();
+        long lastDayKey = monthKey(lastDay, LocalTime.MIDNIGHT);
+
+        // days before the last day of the month fall on themselves
+        long startKey = monthKey(start.getDayOfMonth(), start.toLocalTime());
+        long endKey = YearMonth.from(end).equals(month)
+                ? Math.min(monthKey(end.getDayOfMonth(), end.toLocalTime()), lastDayKey)
+                : lastDayKey;
+        if (startKey < endKey) {
+            for (Map.Entry<Long, Set<Person>> entry : monthlies.subMap(startKey, true, endKey, false).entrySet()) {
+                LocalDate date = month.atDay((int) (entry.getKey() / SECONDS_PER_DAY) + 1);
+                addMonthliesOn(date, entry.getKey(), entry.getValue(), occurrences);
+            }
+        }
+
+        // the last day of the month also has the sessions on the days it is too short for
+        for (Map.Entry<Long, Set<Person>> entry : monthlies.tailMap(lastDayKey, true).entrySet()) {
+            LocalDateTime dateTime = month.atDay(lastDay).atTime(timeOf(entry.getKey()));
+            if (!dateTime.isBefore(start) && dateTime.isBefore(end)) {
+                addMonthliesOn(month.atDay(lastDay), entry.getKey(), entry.getValue(), occurrences);
+            }
+        }
+    }
+
+    private static void addMonthliesOn(LocalDate date, long key, Set<Person> persons,
+            List<SessionOccurrence> occurrences) {
+        LocalDateTime dateTime = date.atTime(timeOf(key));
+        persons.forEach(person -> occurrences.add(new SessionOccurrence(person, dateTime, dateTime)));
+    }
+
+    private NavigableMap<Long, Map<Person, Session.RecurringSlot>> slotsOf(Session session) {
+        return session.getType() == Session.SessionType.BIWEEKLY ? biweeklySlots : weeklySlots;
+    }
+
+    private static long weekKey(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
+    private static long monthKey(int dayOfMonth, LocalTime time) {
+        return (dayOfMonth - 1) * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
+    private static LocalTime timeOf(long key) {
+        return LocalTime.ofSecondOfDay(key % SECONDS_PER_DAY);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> map, K key, Person person) {
+        Set<Person> persons = map.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
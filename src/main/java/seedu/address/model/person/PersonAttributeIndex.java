@@ -0,0 +1,187 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.QueryCondition.RangeField;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Indexes the names of persons by the attributes that a {@link PersonQuery} can filter on: tags, paid status,
+ * the numeric attributes of {@link RangeField}, and the type and weekdays of their sessions.
+ * Name words are looked up in a {@link NameTokenIndex} kept separately, and tags in a {@link TagBitmapIndex}.
+ * <p>
+ * Numeric attributes are kept in sorted maps, so a range is found with one range lookup. Names are the keys because
+ * they identify persons in a list without duplicates and are cheap to hash.
+ */
+public class PersonAttributeIndex {
+
+    private final NameTokenIndex nameTokenIndex;
+    private final TagBitmapIndex tagBitmapIndex = new TagBitmapIndex();
+    private final Map<Boolean, Set<Name>> namesByPaid = new HashMap<>();
+    private final Map<RangeField, NavigableMap<Double, Set<Name>>> namesByValue = new EnumMap<>(RangeField.class);
+    private final Map<SessionType, Set<Name>> namesBySessionType = new EnumMap<>(SessionType.class);
+    private final Map<DayOfWeek, Set<Name>> namesBySessionDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Creates an empty index that looks up name words in {@code nameTokenIndex}.
+     */
+    public PersonAttributeIndex(NameTokenIndex nameTokenIndex) {
+        requireNonNull(nameTokenIndex);
+        this.nameTokenIndex = nameTokenIndex;
+        for (RangeField field : RangeField.values()) {
+            namesByValue.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds the attributes of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        tagBitmapIndex.add(person);
+        namesByPaid.computeIfAbsent(person.getPaymentStatus().value, unused -> new HashSet<>()).add(name);
+        for (RangeField field : RangeField.values()) {
+            Double value = field.valueOf(person);
+            if (value != null) {
+                namesByValue.get(field).computeIfAbsent(value, unused -> new HashSet<>()).add(name);
+            }
+        }
+        namesBySessionType.computeIfAbsent(person.getSession().getType(), unused -> new HashSet<>()).add(name);
+        for (DayOfWeek day : sessionDaysOf(person.getSession())) {
+            namesBySessionDay.computeIfAbsent(day, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes the attributes of {@code person} from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Name name = person.getName();
+        tagBitmapIndex.remove(person);
+        removeFrom(namesByPaid, person.getPaymentStatus().value, name);
+        for (RangeField field : RangeField.values()) {
+            Double value = field.valueOf(person);
+            if (value != null) {
+                removeFrom(namesByValue.get(field), value, name);
+            }
+        }
+        removeFrom(namesBySessionType, person.getSession().getType(), name);
+        for (DayOfWeek day : sessionDaysOf(person.getSession())) {
+            removeFrom(namesBySessionDay, day, name);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        tagBitmapIndex.clear();
+        namesByPaid.clear();
+        namesByValue.values().forEach(Map::clear);
+        namesBySessionType.clear();
+        namesBySessionDay.clear();
+    }
+
+    Set<Name> findNamesWithAnyWord(Collection<String> keywords) {
+        return nameTokenIndex.find(keywords);
+    }
+
+    Set<Name> findNamesWithTags(TagFilter filter) {
+        return tagBitmapIndex.find(filter);
+    }
+
+    int countNamesWithTags(TagFilter filter) {
+        return tagBitmapIndex.count(filter);
+    }
+
+    Set<Name> getNamesWithPaid(boolean isPaid) {
+        return unmodifiableOrEmpty(namesByPaid.get(isPaid));
+    }
+
+    Set<Name> getNamesWithSessionType(SessionType type) {
+        return unmodifiableOrEmpty(namesBySessionType.get(type));
+    }
+
+    /**
+     * Returns the names of the persons whose {@code field} is from {@code min} to {@code max}, both inclusive.
+     */
+    Set<Name> findNamesInRange(RangeField field, double min, double max) {
+        Set<Name> names = new HashSet<>();
+        namesByValue.get(field).subMap(min, true, max, true).values().forEach(names::addAll);
+        return names;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} is from {@code min} to {@code max}, both inclusive.
+     */
+    int countNamesInRange(RangeField field, double min, double max) {
+        int count = 0;
+        for (Set<Name> names : namesByValue.get(field).subMap(min, true, max, true).values()) {
+            count += names.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names of the persons with a session on any of {@code days}.
+     */
+    Set<Name> findNamesWithSessionOn(Set<DayOfWeek> days) {
+        Set<Name> names = new HashSet<>();
+        days.forEach(day -> names.addAll(namesBySessionDay.getOrDefault(day, Set.of())));
+        return names;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons with a session on any of {@code days}, as persons with
+     * sessions on more than one of the days are counted once for each.
+     */
+    int countNamesWithSessionOn(Set<DayOfWeek> days) {
+        int count = 0;
+        for (DayOfWeek day : days) {
+            count += namesBySessionDay.getOrDefault(day, Set.of()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the weekdays of the weekly and biweekly slots of {@code session}, or of its date if it is a one-off
+     * session. Monthly sessions fall on different weekdays from month to month and have none.
+     */
+    static Set<DayOfWeek> sessionDaysOf(Session session) {
+        requireNonNull(session);
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (session.getType() == SessionType.ONE_OFF) {
+            days.add(session.getOneOffDateTime().getDayOfWeek());
+        }
+        for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+            days.add(slot.getDay());
+        }
+        return days;
+    }
+
+    private static Set<Name> unmodifiableOrEmpty(Set<Name> names) {
+        return names == null ? Set.of() : Collections.unmodifiableSet(names);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Name>> map, K key, Name name) {
+        Set<Name> names = map.get(key);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
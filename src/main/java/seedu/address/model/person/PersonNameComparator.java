@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Comparator that orders {@link Person}s by name for the user's locale.
+ * <p>
+ * Each comparator has its own {@link Collator}, so comparators used on different threads do not wait on one shared
+ * collator. The collation keys of the persons being sorted are computed up front and looked up by identity, so a
+ * sort collates each name once instead of on every comparison. The key of any other person, such as one added or
+ * edited after the sort, is computed each time it is asked for and is not kept.
+ */
+public final class PersonNameComparator implements Comparator<Person> {
+
+    private final boolean ascending;
+    private final Collator collator = Collator.getInstance();
+    private final Map<Person, CollationKey> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates a comparator that collates the names when it compares them.
+     */
+    public PersonNameComparator(boolean ascending) {
+        this(ascending, List.of());
+    }
+
+    /**
+     * Creates a comparator for sorting {@code persons}, with their collation keys computed up front.
+     */
+    public PersonNameComparator(boolean ascending, List<Person> persons) {
+        requireNonNull(persons);
+        this.ascending = ascending;
+        for (Person person : persons) {
+            keys.put(person, computeKey(person));
+        }
+    }
+
+    @Override
+    public int compare(Person a, Person b) {
+        int cmp = getKey(a).compareTo(getKey(b));
+        return ascending ? cmp : -cmp;
+    }
+
+    private CollationKey getKey(Person person) {
+        CollationKey key = keys.get(person);
+        return key == null ? computeKey(person) : key;
+    }
+
+    private CollationKey computeKey(Person person) {
+        return collator.getCollationKey(person.getName().fullName);
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A query for the persons that meet all of a list of {@link QueryCondition}s.
+ * <p>
+ * A query is run as a simple plan: the condition with the fewest candidates in the {@link PersonAttributeIndex}
+ * is looked up in the index, and the other conditions are only tested on the persons it returns.
+ * Guarantees: immutable; has at least one condition.
+ */
+public class PersonQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "A query must have at least one condition.";
+
+    private final List<QueryCondition> conditions;
+
+    /**
+     * Constructs a {@code PersonQuery} for the persons that meet all of {@code conditions}.
+     */
+    public PersonQuery(List<QueryCondition> conditions) {
+        requireAllNonNull(conditions);
+        checkArgument(!conditions.isEmpty(), MESSAGE_CONSTRAINTS);
+        this.conditions = List.copyOf(conditions);
+    }
+
+    public List<QueryCondition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Runs this query against the persons in {@code index}, using {@code personsByName} to look up the persons
+     * whose remaining conditions must be tested.
+     */
+    QueryResult run(PersonAttributeIndex index, Map<Name, Person> personsByName) {
+        requireAllNonNull(index, personsByName);
+        QueryCondition start = conditions.stream()
+                .min(Comparator.comparingInt(condition -> condition.countCandidates(index)))
+                .get();
+        List<QueryCondition> remaining = new ArrayList<>(conditions);
+        remaining.remove(start);
+
+        Set<Name> candidates = start.findCandidates(index);
+        Set<Name> matches = new HashSet<>();
+        for (Name name : candidates) {
+            Person person = personsByName.get(name);
+            if (remaining.stream().allMatch(condition -> condition.test(person))) {
+                matches.add(name);
+            }
+        }
+        return new QueryResult(matches, start, candidates.size());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return conditions.equals(otherQuery.conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("conditions", conditions)
+                .toString();
+    }
+
+    /**
+     * The result of running a {@code PersonQuery}: the names of the matching persons, and how they were found.
+     */
+    public static class QueryResult {
+        private final Set<Name> matches;
+        private final QueryCondition startingCondition;
+        private final int candidateCount;
+
+        QueryResult(Set<Name> matches, QueryCondition startingCondition, int candidateCount) {
+            requireNonNull(matches);
+            requireNonNull(startingCondition);
+            this.matches = matches;
+            this.startingCondition = startingCondition;
+            this.candidateCount = candidateCount;
+        }
+
+        public Set<Name> getMatches() {
+            return matches;
+        }
+
+        /**
+         * Returns the condition whose candidates were looked up in the index.
+         */
+        public QueryCondition getStartingCondition() {
+            return startingCondition;
+        }
+
+        /**
+         * Returns the number of candidates that the other conditions were tested on.
+         */
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+    }
+}
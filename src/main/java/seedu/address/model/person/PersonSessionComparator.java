@@ -1,30 +1,46 @@
 package seedu.address.model.person;
 
-import java.time.LocalDateTime;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Compares two Persons based on the date/time of their next upcoming session.
  * Persons without upcoming sessions are placed at the end.
+ * The next sessions are looked up in a {@link SessionSortKeys}, so they are all relative to one reference time.
  */
 public class PersonSessionComparator implements Comparator<Person> {
 
+    private final SessionSortKeys sortKeys;
+
+    /**
+     * Creates a comparator with its own sort keys, relative to the current time.
+     */
+    public PersonSessionComparator() {
+        this(new SessionSortKeys(Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Creates a comparator for sorting {@code persons}, with their sort keys computed up front relative to the
+     * current time.
+     */
+    public PersonSessionComparator(List<Person> persons) {
+        this(new SessionSortKeys(persons, Clock.systemDefaultZone()));
+    }
+
+    /**
+     * Creates a comparator that looks up the next sessions in {@code sortKeys}.
+     */
+    public PersonSessionComparator(SessionSortKeys sortKeys) {
+        requireNonNull(sortKeys);
+        this.sortKeys = sortKeys;
+    }
+
     @Override
     public int compare(Person p1, Person p2) {
-        Session s1 = p1.getSession();
-        Session s2 = p2.getSession();
-        LocalDateTime n1 = s1 == null ? null : s1.getNextOccurrence().orElse(null);
-        LocalDateTime n2 = s2 == null ? null : s2.getNextOccurrence().orElse(null);
-
-        if (n1 == null && n2 == null) {
-            return 0;
-        } else if (n1 == null) {
-            return 1; // p1 has no upcoming session → later in list
-        } else if (n2 == null) {
-            return -1; // p2 has no upcoming session → earlier in list
-        }
-
-        // earlier (sooner) sessions come first
-        return n1.compareTo(n2);
+        // earlier (sooner) sessions come first; persons without upcoming sessions have the largest key
+        return Long.compare(sortKeys.getKey(p1), sortKeys.getKey(p2));
     }
 }
@@ -0,0 +1,426 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * A condition on one attribute of a {@code Person} in a {@link PersonQuery}.
+ * <p>
+ * Besides testing a person, every condition can look up the persons that meet it in a {@link PersonAttributeIndex},
+ * and count them beforehand, so that a query can start from its most selective condition.
+ */
+public abstract class QueryCondition implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS_RANGE = "The lower end of a range must not be above its upper end.";
+
+    /**
+     * A numeric attribute of a person that can be queried by range. Persons without the attribute meet no range.
+     */
+    public enum RangeField {
+        AGE("age"),
+        HEIGHT("height"),
+        WEIGHT("weight"),
+        BODYFAT("bodyfat"),
+        /** The deadline, as a number of days since the epoch. */
+        DEADLINE("deadline");
+
+        private final String description;
+
+        RangeField(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the value of this attribute of {@code person}, or null if it has none.
+         */
+        Double valueOf(Person person) {
+            switch (this) {
+            case AGE:
+                return person.getAge() == null ? null : (double) person.getAge().value;
+            case HEIGHT:
+                return person.getHeight() == null ? null : (double) person.getHeight().value;
+            case WEIGHT:
+                return person.getWeight() == null ? null : person.getWeight().value;
+            case BODYFAT:
+                return person.getBodyfat() == null ? null : person.getBodyfat().value;
+            default:
+                return person.getDeadline().asOptional().map(date -> (double) date.toEpochDay()).orElse(null);
+            }
+        }
+
+        String format(double value) {
+            if (this == DEADLINE) {
+                return LocalDate.ofEpochDay((long) value).toString();
+            }
+            return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+        }
+    }
+
+    /**
+     * Returns the names of the persons in {@code index} that meet this condition.
+     */
+    abstract Set<Name> findCandidates(PersonAttributeIndex index);
+
+    /**
+     * Returns the number of persons in {@code index} that meet this condition, or an upper bound on it, without
+     * collecting them where possible.
+     */
+    abstract int countCandidates(PersonAttributeIndex index);
+
+    /**
+     * Returns a short description of this condition for the user.
+     */
+    public abstract String getDescription();
+
+    /**
+     * Returns a condition met by persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public static QueryCondition nameHasAnyWord(List<String> keywords) {
+        return new NameHasAnyWord(keywords);
+    }
+
+    /**
+     * Returns a condition met by persons with {@code tag}.
+     */
+    public static QueryCondition hasTag(Tag tag) {
+        return new MatchesTags(TagFilter.of(tag));
+    }
+
+    /**
+     * Returns a condition met by persons whose tags meet {@code filter}.
+     */
+    public static QueryCondition matchesTags(TagFilter filter) {
+        return new MatchesTags(filter);
+    }
+
+    /**
+     * Returns a condition met by persons whose paid status is {@code isPaid}.
+     */
+    public static QueryCondition isPaid(boolean isPaid) {
+        return new IsPaid(isPaid);
+    }
+
+    /**
+     * Returns a condition met by persons whose {@code field} is from {@code min} to {@code max}, both inclusive.
+     */
+    public static QueryCondition inRange(RangeField field, double min, double max) {
+        return new InRange(field, min, max);
+    }
+
+    /**
+     * Returns a condition met by persons whose session is of {@code type}.
+     */
+    public static QueryCondition hasSessionType(SessionType type) {
+        return new HasSessionType(type);
+    }
+
+    /**
+     * Returns a condition met by persons with a weekly or biweekly slot, or a one-off session, on any of
+     * {@code days}.
+     */
+    public static QueryCondition hasSessionOn(Set<DayOfWeek> days) {
+        return new HasSessionOn(days);
+    }
+
+    private static class NameHasAnyWord extends QueryCondition {
+        private final List<String> keywords;
+        private final NameContainsKeywordsPredicate predicate;
+
+        NameHasAnyWord(List<String> keywords) {
+            requireNonNull(keywords);
+            this.keywords = List.copyOf(keywords);
+            this.predicate = new NameContainsKeywordsPredicate(this.keywords);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.findNamesWithAnyWord(keywords);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return findCandidates(index).size();
+        }
+
+        @Override
+        public String getDescription() {
+            return "name " + String.join(" ", keywords);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof NameHasAnyWord
+                    && keywords.equals(((NameHasAnyWord) other).keywords));
+        }
+
+        @Override
+        public int hashCode() {
+            return keywords.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("keywords", keywords).toString();
+        }
+    }
+
+    private static class MatchesTags extends QueryCondition {
+        private final TagFilter filter;
+
+        MatchesTags(TagFilter filter) {
+            requireNonNull(filter);
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return filter.matches(person.getTags());
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.findNamesWithTags(filter);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return index.countNamesWithTags(filter);
+        }
+
+        @Override
+        public String getDescription() {
+            return filter.getDescription();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof MatchesTags && filter.equals(((MatchesTags) other).filter));
+        }
+
+        @Override
+        public int hashCode() {
+            return filter.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("filter", filter).toString();
+        }
+    }
+
+    private static class IsPaid extends QueryCondition {
+        private final boolean isPaid;
+
+        IsPaid(boolean isPaid) {
+            this.isPaid = isPaid;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getPaymentStatus().value == isPaid;
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.getNamesWithPaid(isPaid);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return index.getNamesWithPaid(isPaid).size();
+        }
+
+        @Override
+        public String getDescription() {
+            return isPaid ? "paid" : "unpaid";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof IsPaid && isPaid == ((IsPaid) other).isPaid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(isPaid);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("isPaid", isPaid).toString();
+        }
+    }
+
+    private static class InRange extends QueryCondition {
+        private final RangeField field;
+        private final double min;
+        private final double max;
+
+        InRange(RangeField field, double min, double max) {
+            requireNonNull(field);
+            checkArgument(min <= max, MESSAGE_CONSTRAINTS_RANGE);
+            this.field = field;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Double value = field.valueOf(person);
+            return value != null && min <= value && value <= max;
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.findNamesInRange(field, min, max);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return index.countNamesInRange(field, min, max);
+        }
+
+        @Override
+        public String getDescription() {
+            if (min == Double.NEGATIVE_INFINITY) {
+                return field.description + " up to " + field.format(max);
+            } else if (max == Double.POSITIVE_INFINITY) {
+                return field.description + " from " + field.format(min);
+            }
+            return field.description + " " + field.format(min) + " to " + field.format(max);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof InRange)) {
+                return false;
+            }
+            InRange otherInRange = (InRange) other;
+            return field == otherInRange.field
+                    && Double.compare(min, otherInRange.min) == 0
+                    && Double.compare(max, otherInRange.max) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, min, max);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("field", field).add("min", min).add("max", max).toString();
+        }
+    }
+
+    private static class HasSessionType extends QueryCondition {
+        private final SessionType type;
+
+        HasSessionType(SessionType type) {
+            requireNonNull(type);
+            this.type = type;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getSession().getType() == type;
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.getNamesWithSessionType(type);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return index.getNamesWithSessionType(type).size();
+        }
+
+        @Override
+        public String getDescription() {
+            return "session type " + type;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof HasSessionType && type == ((HasSessionType) other).type);
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("type", type).toString();
+        }
+    }
+
+    private static class HasSessionOn extends QueryCondition {
+        private final Set<DayOfWeek> days;
+
+        HasSessionOn(Set<DayOfWeek> days) {
+            requireAllNonNull(days);
+            checkArgument(!days.isEmpty(), Session.MESSAGE_CONSTRAINTS_DAYS);
+            this.days = Collections.unmodifiableSet(EnumSet.copyOf(days));
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return PersonAttributeIndex.sessionDaysOf(person.getSession()).stream().anyMatch(days::contains);
+        }
+
+        @Override
+        Set<Name> findCandidates(PersonAttributeIndex index) {
+            return index.findNamesWithSessionOn(days);
+        }
+
+        @Override
+        int countCandidates(PersonAttributeIndex index) {
+            return index.countNamesWithSessionOn(days);
+        }
+
+        @Override
+        public String getDescription() {
+            return "session on " + days;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof HasSessionOn && days.equals(((HasSessionOn) other).days));
+        }
+
+        @Override
+        public int hashCode() {
+            return days.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("days", days).toString();
+        }
+    }
+}
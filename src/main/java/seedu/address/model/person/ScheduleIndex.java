@@ -0,0 +1,255 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the sessions of a set of persons whose sessions do not conflict with one another, used to find
+ * the person whose session conflicts with a given session without comparing against every person.
+ * <p>
+ * Weekly and biweekly slots are kept per weekday, sorted by start time. As the indexed slots never overlap, the
+ * only slots that can overlap {@code [start, end)} are the last one starting at or before {@code start} and those
+ * starting before {@code end}, so each slot is looked up in logarithmic time. One-off and monthly sessions are
+ * kept in maps keyed by the date and time they occur at, sorted for range lookups.
+ * <p>
+ * Every candidate found is confirmed with {@link Session#conflictsWith(Session)}, so the results are the same as
+ * comparing against every indexed person.
+ */
+public class ScheduleIndex {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /** Persons with weekly or biweekly sessions, keyed by the start time of each slot on each weekday. */
+    private final Map<DayOfWeek, NavigableMap<LocalTime, Set<Person>>> recurringByDay =
+            new EnumMap<>(DayOfWeek.class);
+    /** Persons with one-off sessions, keyed by date and time. */
+    private final NavigableMap<LocalDateTime, Set<Person>> oneOffsByDateTime = new TreeMap<>();
+    /** Persons with one-off sessions, keyed by the time on each weekday. */
+    private final Map<DayOfWeek, NavigableMap<LocalTime, Set<Person>>> oneOffsByDay =
+            new EnumMap<>(DayOfWeek.class);
+    /** Persons with one-off sessions, keyed by day of month and time. */
+    private final Map<Long, Set<Person>> oneOffsByDayOfMonth = new HashMap<>();
+    /** Persons with monthly sessions, keyed by day of month and time. */
+    private final NavigableMap<Long, Set<Person>> monthliesByDayOfMonth = new TreeMap<>();
+    /** Persons with monthly sessions, keyed by time. */
+    private final NavigableMap<LocalTime, Set<Person>> monthliesByTime = new TreeMap<>();
+
+    /**
+     * Creates an empty {@code ScheduleIndex}.
+     */
+    public ScheduleIndex() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            recurringByDay.put(day, new TreeMap<>());
+            oneOffsByDay.put(day, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person}'s session to the index.
+     * The session must not conflict with the session of any person already in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Session session = person.getSession();
+        switch (session.getType()) {
+        case ONE_OFF:
+            LocalDateTime dateTime = session.getOneOffDateTime();
+            addTo(oneOffsByDateTime, dateTime, person);
+            addTo(oneOffsByDay.get(dateTime.getDayOfWeek()), dateTime.toLocalTime(), person);
+            addTo(oneOffsByDayOfMonth, dayOfMonthKey(dateTime.getDayOfMonth(), dateTime.toLocalTime()), person);
+            break;
+        case MONTHLY:
+            addTo(monthliesByDayOfMonth, dayOfMonthKey(session.getDayOfMonth(), session.getTime()), person);
+            addTo(monthliesByTime, session.getTime(), person);
+            break;
+        default:
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                addTo(recurringByDay.get(slot.getDay()), slot.getStart(), person);
+            }
+            break;
+        }
+    }
+
+    /**
+     * Removes {@code person}'s session from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Session session = person.getSession();
+        switch (session.getType()) {
+        case ONE_OFF:
+            LocalDateTime dateTime = session.getOneOffDateTime();
+            removeFrom(oneOffsByDateTime, dateTime, person);
+            removeFrom(oneOffsByDay.get(dateTime.getDayOfWeek()), dateTime.toLocalTime(), person);
+            removeFrom(oneOffsByDayOfMonth, dayOfMonthKey(dateTime.getDayOfMonth(), dateTime.toLocalTime()), person);
+            break;
+        case MONTHLY:
+            removeFrom(monthliesByDayOfMonth, dayOfMonthKey(session.getDayOfMonth(), session.getTime()), person);
+            removeFrom(monthliesByTime, session.getTime(), person);
+            break;
+        default:
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                removeFrom(recurringByDay.get(slot.getDay()), slot.getStart(), person);
+            }
+            break;
+        }
+    }
+
+    /**
+     * Removes every session from the index.
+     */
+    public void clear() {
+        recurringByDay.values().forEach(Map::clear);
+        oneOffsByDay.values().forEach(Map::clear);
+        oneOffsByDateTime.clear();
+        oneOffsByDayOfMonth.clear();
+        monthliesByDayOfMonth.clear();
+        monthliesByTime.clear();
+    }
+
+    /**
+     * Returns a person in the index whose session conflicts with {@code session}, other than {@code toIgnore}.
+     *
+     * @param toIgnore a person to leave out of the check, or null to check every person.
+     */
+    public Optional<Person> findConflict(Session session, Person toIgnore) {
+        requireNonNull(session);
+        Set<Person> candidates = new LinkedHashSet<>();
+        switch (session.getType()) {
+        case ONE_OFF:
+            addOneOffCandidates(session.getOneOffDateTime(), candidates);
+            break;
+        case MONTHLY:
+            addMonthlyCandidates(session.getDayOfMonth(), session.getTime(), candidates);
+            break;
+        default:
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                addRecurringCandidates(slot, toIgnore, candidates);
+            }
+            break;
+        }
+
+        return candidates.stream()
+                .filter(candidate -> toIgnore == null || !candidate.equals(toIgnore))
+                .filter(candidate -> candidate.getSession().conflictsWith(session))
+                .findFirst();
+    }
+
+    /**
+     * Returns true if a one-off or monthly session in the index occurs from {@code start} until before {@code end},
+     * which must be on the same date.
+     */
+    public boolean hasDatedSessionWithin(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (!start.toLocalDate().equals(end.toLocalDate())) {
+            throw new IllegalArgumentException("Start and end must be on the same date");
+        }
+        int dayOfMonth = start.getDayOfMonth();
+        return !oneOffsByDateTime.subMap(start, true, end, false).isEmpty()
+                || !monthliesByDayOfMonth.subMap(dayOfMonthKey(dayOfMonth, start.toLocalTime()), true,
+                        dayOfMonthKey(dayOfMonth, end.toLocalTime()), false).isEmpty();
+    }
+
+    /**
+     * Adds the persons that could conflict with a one-off session at {@code dateTime} to {@code candidates}.
+     */
+    private void addOneOffCandidates(LocalDateTime dateTime, Set<Person> candidates) {
+        LocalTime time = dateTime.toLocalTime();
+        long key = dayOfMonthKey(dateTime.getDayOfMonth(), time);
+        candidates.addAll(oneOffsByDateTime.getOrDefault(dateTime, Set.of()));
+        candidates.addAll(monthliesByDayOfMonth.getOrDefault(key, Set.of()));
+        addCovering(recurringByDay.get(dateTime.getDayOfWeek()), time, candidates);
+    }
+
+    /**
+     * Adds the persons that could conflict with a monthly session on {@code dayOfMonth} at {@code time} to
+     * {@code candidates}.
+     */
+    private void addMonthlyCandidates(int dayOfMonth, LocalTime time, Set<Person> candidates) {
+        long key = dayOfMonthKey(dayOfMonth, time);
+        candidates.addAll(monthliesByDayOfMonth.getOrDefault(key, Set.of()));
+        candidates.addAll(oneOffsByDayOfMonth.getOrDefault(key, Set.of()));
+        for (DayOfWeek day : DayOfWeek.values()) {
+            addCovering(recurringByDay.get(day), time, candidates);
+        }
+    }
+
+    /**
+     * Adds the persons that could conflict with a weekly or biweekly {@code slot} to {@code candidates}.
+     * Slots and one-off sessions starting within {@code slot} always conflict with it, so only the first of them
+     * that does not belong to {@code toIgnore} is added.
+     */
+    private void addRecurringCandidates(Session.RecurringSlot slot, Person toIgnore, Set<Person> candidates) {
+        NavigableMap<LocalTime, Set<Person>> slotsOnDay = recurringByDay.get(slot.getDay());
+        addCovering(slotsOnDay, slot.getStart(), candidates);
+        if (!slot.isInstant()) {
+            addUntilOther(slotsOnDay.subMap(slot.getStart(), false, slot.getEnd(), false), toIgnore, candidates);
+        }
+
+        addUntilOther(startingWithin(oneOffsByDay.get(slot.getDay()), slot), toIgnore, candidates);
+        startingWithin(monthliesByTime, slot).values().forEach(candidates::addAll);
+    }
+
+    /**
+     * Adds the persons in {@code byTime} to {@code candidates} in order of time, up to and including the first
+     * time that has a person other than {@code toIgnore}.
+     */
+    private static void addUntilOther(NavigableMap<LocalTime, Set<Person>> byTime, Person toIgnore,
+            Set<Person> candidates) {
+        for (Set<Person> persons : byTime.values()) {
+            candidates.addAll(persons);
+            if (persons.stream().anyMatch(person -> !person.equals(toIgnore))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the persons whose slots in {@code slotsOnDay} could contain {@code time} to {@code candidates}.
+     */
+    private static void addCovering(NavigableMap<LocalTime, Set<Person>> slotsOnDay, LocalTime time,
+            Set<Person> candidates) {
+        Map.Entry<LocalTime, Set<Person>> covering = slotsOnDay.floorEntry(time);
+        if (covering != null) {
+            candidates.addAll(covering.getValue());
+        }
+    }
+
+    /**
+     * Returns the entries of {@code byTime} at the times contained in {@code slot}.
+     */
+    private static NavigableMap<LocalTime, Set<Person>> startingWithin(NavigableMap<LocalTime, Set<Person>> byTime,
+            Session.RecurringSlot slot) {
+        if (slot.isInstant()) {
+            return byTime.subMap(slot.getStart(), true, slot.getStart(), true);
+        }
+        return byTime.subMap(slot.getStart(), true, slot.getEnd(), false);
+    }
+
+    private static long dayOfMonthKey(int dayOfMonth, LocalTime time) {
+        return dayOfMonth * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
+    private static <K> void addTo(Map<K, Set<Person>> map, K key, Person person) {
+        map.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Person>> map, K key, Person person) {
+        Set<Person> persons = map.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
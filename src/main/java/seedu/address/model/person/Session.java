@@ -32,6 +32,9 @@ public class Session {
     public static final String MESSAGE_CONSTRAINTS_TIME = "Error: Invalid time. Use 24-hour format (HH:mm or HHmm).";
     public static final String MESSAGE_CONSTRAINTS_DAY =
             "Error: Invalid day. Use MONDAY, TUESDAY, or their three-letter abbreviations.";
+    public static final String MESSAGE_CONSTRAINTS_DAYS = "Error: At least one day must be given.";
+    public static final String MESSAGE_CONSTRAINTS_TYPE =
+            "Error: Session type must be weekly, biweekly, monthly or oneoff.";
     public static final String MESSAGE_CONSTRAINTS_PAST_DATE = "Error: Session date cannot be in the past.";
     public static final String MESSAGE_CONSTRAINTS_TIME_RANGE =
             "Error: Session end time must be after the start time.";
@@ -85,9 +88,10 @@ public class Session {
     }
 
     /**
-     * Internal factory that allows injecting a {@link Clock} for testing.
+     * Similar to {@link #fromString(String)}, but reads the current time from {@code clock} instead of the system
+     * clock, both to check one-off dates and to find upcoming occurrences.
      */
-    static Session fromString(String raw, Clock clock) {
+    public static Session fromString(String raw, Clock clock) {
         requireNonNull(raw);
         requireNonNull(clock);
         String trimmed = raw.trim();
@@ -163,7 +167,12 @@ public class Session {
         }
     }
 
-    private static LocalTime parseSlotTime(String timeStr) {
+    /**
+     * Parses a time in the format of slot times, {@code HHmm} or {@code HH:mm}.
+     *
+     * @throws IllegalArgumentException if {@code timeStr} is not a valid time.
+     */
+    public static LocalTime parseSlotTime(String timeStr) {
         String trimmed = timeStr.trim();
         try {
             if (trimmed.contains(":")) {
@@ -175,7 +184,12 @@ public class Session {
         }
     }
 
-    private static DayOfWeek parseDayOfWeek(String raw) {
+    /**
+     * Parses a day of the week in the format of slot days, such as {@code MON} or {@code monday}.
+     *
+     * @throws IllegalArgumentException if {@code raw} is not a valid day.
+     */
+    public static DayOfWeek parseDayOfWeek(String raw) {
         String trimmed = raw.trim().toUpperCase(Locale.ROOT);
         switch (trimmed) {
         case "MON":
@@ -287,6 +301,36 @@ public class Session {
         return type;
     }
 
+    /**
+     * Returns the date and time of a {@link SessionType#ONE_OFF} session, or null for other types.
+     */
+    LocalDateTime getOneOffDateTime() {
+        return oneOffDateTime;
+    }
+
+    /**
+     * Returns the day of month of a {@link SessionType#MONTHLY} session, or -1 for other types.
+     */
+    int getDayOfMonth() {
+        return dayOfMonth;
+    }
+
+    /**
+     * Returns the time of a {@link SessionType#ONE_OFF} or {@link SessionType#MONTHLY} session,
+     * or null for other types.
+     */
+    LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the slots of a {@link SessionType#WEEKLY} or {@link SessionType#BIWEEKLY} session, sorted by day and
+     * start time, or an empty list for other types.
+     */
+    List<RecurringSlot> getRecurringSlots() {
+        return recurringSlots;
+    }
+
     public String toStorageString() {
         return value;
     }
@@ -376,8 +420,15 @@ public class Session {
      * If no upcoming occurrence exists (e.g. a one-off in the past), returns Optional.empty().
      */
     public Optional<LocalDateTime> getNextOccurrence() {
-        LocalDateTime now = LocalDateTime.now(clock);
+        return getNextOccurrence(LocalDateTime.now(clock));
+    }
 
+    /**
+     * Returns the next upcoming LocalDateTime this session occurs at, relative to {@code now}.
+     * If no upcoming occurrence exists (e.g. a one-off before {@code now}), returns Optional.empty().
+     */
+    public Optional<LocalDateTime> getNextOccurrence(LocalDateTime now) {
+        requireNonNull(now);
         switch (type) {
         case ONE_OFF:
             if (oneOffDateTime != null && (oneOffDateTime.isAfter(now) || oneOffDateTime.isEqual(now))) {
@@ -438,23 +489,19 @@ public class Session {
         if (recurring.recurringSlots.isEmpty()) {
             return false;
         }
-        YearMonth start = YearMonth.from(LocalDate.now(monthly.clock));
-        for (int i = 0; i < MONTH_LOOKAHEAD; i++) {
-            YearMonth current = start.plusMonths(i);
-            if (monthly.dayOfMonth > current.lengthOfMonth()) {
-                continue;
-            }
-            LocalDate date = current.atDay(monthly.dayOfMonth);
-            for (RecurringSlot slot : recurring.recurringSlots) {
-                if (date.getDayOfWeek() == slot.day && slot.contains(monthly.time)) {
-                    return true;
-                }
+        int weekdayMask = MonthlyWeekdayTable.weekdayMask(monthly.clock, monthly.dayOfMonth, MONTH_LOOKAHEAD);
+        for (RecurringSlot slot : recurring.recurringSlots) {
+            if ((weekdayMask & MonthlyWeekdayTable.bit(slot.day)) != 0 && slot.contains(monthly.time)) {
+                return true;
             }
         }
         return false;
     }
 
-    private static final class RecurringSlot implements Comparable<RecurringSlot> {
+    /**
+     * A weekly time slot of a {@link SessionType#WEEKLY} or {@link SessionType#BIWEEKLY} session.
+     */
+    static final class RecurringSlot implements Comparable<RecurringSlot> {
         private final DayOfWeek day;
         private final LocalTime start;
         private final LocalTime end;
@@ -465,7 +512,19 @@ public class Session {
             this.end = requireNonNull(end);
         }
 
-        private boolean isInstant() {
+        DayOfWeek getDay() {
+            return day;
+        }
+
+        LocalTime getStart() {
+            return start;
+        }
+
+        LocalTime getEnd() {
+            return end;
+        }
+
+        boolean isInstant() {
             return start.equals(end);
         }
 
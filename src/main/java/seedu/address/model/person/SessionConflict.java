@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents two persons in a list whose sessions conflict.
+ * Guarantees: {@code firstIndex} is less than {@code secondIndex}.
+ */
+public class SessionConflict {
+
+    private final int firstIndex;
+    private final Person first;
+    private final int secondIndex;
+    private final Person second;
+
+    /**
+     * Constructs a {@code SessionConflict} between the persons at the given zero-based indexes of a list.
+     */
+    public SessionConflict(int firstIndex, Person first, int secondIndex, Person second) {
+        requireAllNonNull(first, second);
+        if (firstIndex >= secondIndex) {
+            throw new IllegalArgumentException("First index must be less than second index");
+        }
+        this.firstIndex = firstIndex;
+        this.first = first;
+        this.secondIndex = secondIndex;
+        this.second = second;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public Person getFirst() {
+        return first;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    public Person getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SessionConflict)) {
+            return false;
+        }
+
+        SessionConflict otherConflict = (SessionConflict) other;
+        return firstIndex == otherConflict.firstIndex
+                && first.equals(otherConflict.first)
+                && secondIndex == otherConflict.secondIndex
+                && second.equals(otherConflict.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstIndex, first, secondIndex, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("firstIndex", firstIndex)
+                .add("first", first.getName())
+                .add("secondIndex", secondIndex)
+                .add("second", second.getName())
+                .toString();
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Finds every pair of persons in a list whose sessions conflict, in O(n log n + k) time for n persons and
+ * k candidate pairs, instead of comparing every pair of persons.
+ * <p>
+ * Every session is expanded onto a one-week timeline: weekly and biweekly slots become intervals, one-off
+ * sessions become points on their weekday, and monthly sessions become points on every weekday, as their day of
+ * month may fall on any of them. A single sweep over the timeline sorted by start finds the intervals and points
+ * that overlap. One-off and monthly sessions that occur at the same time are grouped with hash maps instead, so
+ * one-off sessions at the same weekday and time in different weeks, and the points every monthly session adds on
+ * each weekday, are never compared with each other. Candidate pairs are collected in a primitive array, sorted and
+ * deduplicated once, and each one is confirmed with {@link Session#conflictsWith(Session)}, so the pairs found are
+ * exactly those the pairwise check would find.
+ */
+public class SessionConflictValidator {
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private SessionConflictValidator() {} // prevents instantiation
+
+    /**
+     * Returns every pair of persons in {@code persons} whose sessions conflict, ordered by the index of the first
+     * person and then of the second.
+     */
+    public static List<SessionConflict> findConflicts(List<Person> persons) {
+        requireNonNull(persons);
+        CandidatePairs candidates = new CandidatePairs();
+        sweep(toTimeline(persons), candidates);
+        groupByDateTime(persons, candidates);
+
+        List<SessionConflict> conflicts = new ArrayList<>();
+        for (long pair : candidates.toSortedDistinctArray()) {
+            int firstIndex = (int) (pair >>> Integer.SIZE);
+            int secondIndex = (int) pair;
+            Person first = persons.get(firstIndex);
+            Person second = persons.get(secondIndex);
+            if (first.getSession().conflictsWith(second.getSession())) {
+                conflicts.add(new SessionConflict(firstIndex, first, secondIndex, second));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns true if the sessions of any two persons in {@code persons} conflict.
+     */
+    public static boolean hasConflicts(List<Person> persons) {
+        return !findConflicts(persons).isEmpty();
+    }
+
+    /**
+     * Returns the intervals and points of the sessions of {@code persons} on a one-week timeline, sorted by start,
+     * with intervals before points that start at the same time.
+     */
+    private static List<Occurrence> toTimeline(List<Person> persons) {
+        List<Occurrence> timeline = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Session session = persons.get(i).getSession();
+            switch (session.getType()) {
+            case ONE_OFF:
+                LocalDateTime dateTime = session.getOneOffDateTime();
+                long position = toPosition(dateTime.getDayOfWeek(), dateTime.toLocalTime());
+                timeline.add(new Occurrence(i, position, position, false));
+                break;
+            case MONTHLY:
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    long dayPosition = toPosition(day, session.getTime());
+                    timeline.add(new Occurrence(i, dayPosition, dayPosition, false));
+                }
+                break;
+            default:
+                for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                    timeline.add(new Occurrence(i, toPosition(slot.getDay(), slot.getStart()),
+                            toPosition(slot.getDay(), slot.getEnd()), true));
+                }
+                break;
+            }
+        }
+        timeline.sort(Comparator.comparingLong((Occurrence occurrence) -> occurrence.start)
+                .thenComparing(Occurrence::isPoint));
+        return timeline;
+    }
+
+    /**
+     * Adds the pairs of persons whose occurrences on {@code timeline} overlap to {@code candidates}.
+     * Points at the same position are only paired if one of them is a recurring slot, as points of one-off and
+     * monthly sessions are paired by {@link #groupByDateTime}. The points at the current position are kept in two
+     * groups, so that each point is only compared with the points it is paired with.
+     */
+    private static void sweep(List<Occurrence> timeline, CandidatePairs candidates) {
+        PriorityQueue<Occurrence> active = new PriorityQueue<>(Comparator.comparingLong(occurrence -> occurrence.end));
+        List<Occurrence> recurringPointsAtPosition = new ArrayList<>();
+        List<Occurrence> otherPointsAtPosition = new ArrayList<>();
+        long position = -1;
+        for (Occurrence occurrence : timeline) {
+            while (!active.isEmpty() && active.peek().end <= occurrence.start) {
+                active.poll();
+            }
+            for (Occurrence overlapping : active) {
+                addCandidate(overlapping.owner, occurrence.owner, candidates);
+            }
+
+            if (!occurrence.isPoint()) {
+                active.add(occurrence);
+                continue;
+            }
+            if (occurrence.start != position) {
+                position = occurrence.start;
+                recurringPointsAtPosition.clear();
+                otherPointsAtPosition.clear();
+            }
+            for (Occurrence point : recurringPointsAtPosition) {
+                addCandidate(point.owner, occurrence.owner, candidates);
+            }
+            if (occurrence.isRecurring) {
+                for (Occurrence point : otherPointsAtPosition) {
+                    addCandidate(point.owner, occurrence.owner, candidates);
+                }
+                recurringPointsAtPosition.add(occurrence);
+            } else {
+                otherPointsAtPosition.add(occurrence);
+            }
+        }
+    }
+
+    /**
+     * Adds the pairs of persons whose one-off or monthly sessions occur at the same time to {@code candidates}:
+     * one-off sessions at the same date and time, and monthly sessions at the same day of month and time as
+     * another monthly or one-off session.
+     */
+    private static void groupByDateTime(List<Person> persons, CandidatePairs candidates) {
+        Map<LocalDateTime, List<Integer>> oneOffsByDateTime = new HashMap<>();
+        Map<String, List<Integer>> oneOffsByDayOfMonth = new HashMap<>();
+        Map<String, List<Integer>> monthliesByDayOfMonth = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Session session = persons.get(i).getSession();
+            if (session.getType() == Session.SessionType.ONE_OFF) {
+                LocalDateTime dateTime = session.getOneOffDateTime();
+                oneOffsByDateTime.computeIfAbsent(dateTime, unused -> new ArrayList<>()).add(i);
+                oneOffsByDayOfMonth.computeIfAbsent(dayOfMonthKey(dateTime.getDayOfMonth(), dateTime.toLocalTime()),
+                        unused -> new ArrayList<>()).add(i);
+            } else if (session.getType() == Session.SessionType.MONTHLY) {
+                monthliesByDayOfMonth.computeIfAbsent(dayOfMonthKey(session.getDayOfMonth(), session.getTime()),
+                        unused -> new ArrayList<>()).add(i);
+            }
+        }
+
+        oneOffsByDateTime.values().forEach(group -> addPairsWithin(group, candidates));
+        monthliesByDayOfMonth.forEach((key, monthlies) -> {
+            addPairsWithin(monthlies, candidates);
+            addPairs(monthlies, oneOffsByDayOfMonth.getOrDefault(key, List.of()), candidates);
+        });
+    }
+
+    /**
+     * Adds every pair of a person in {@code owners} and a different person in {@code otherOwners} to
+     * {@code candidates}.
+     */
+    private static void addPairs(List<Integer> owners, List<Integer> otherOwners, CandidatePairs candidates) {
+        for (int owner : owners) {
+            for (int otherOwner : otherOwners) {
+                addCandidate(owner, otherOwner, candidates);
+            }
+        }
+    }
+
+    /**
+     * Adds every pair of two persons in {@code owners} to {@code candidates} once.
+     */
+    private static void addPairsWithin(List<Integer> owners, CandidatePairs candidates) {
+        for (int i = 0; i < owners.size(); i++) {
+            for (int j = i + 1; j < owners.size(); j++) {
+                addCandidate(owners.get(i), owners.get(j), candidates);
+            }
+        }
+    }
+
+    private static String dayOfMonthKey(int dayOfMonth, LocalTime time) {
+        return dayOfMonth + " " + time;
+    }
+
+    private static void addCandidate(int owner, int otherOwner, CandidatePairs candidates) {
+        if (owner == otherOwner) {
+            return;
+        }
+        long first = Math.min(owner, otherOwner);
+        long second = Math.max(owner, otherOwner);
+        candidates.add(first << Integer.SIZE | second);
+    }
+
+    private static long toPosition(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * SECONDS_PER_DAY + time.toSecondOfDay();
+    }
+
+    /**
+     * A growable array of candidate pairs, each packed into a {@code long} as the index of its first person
+     * followed by the index of its second, so that collecting them boxes nothing.
+     */
+    private static class CandidatePairs {
+        private long[] pairs = new long[16];
+        private int size;
+
+        void add(long pair) {
+            if (size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            pairs[size++] = pair;
+        }
+
+        /**
+         * Returns the pairs added, in ascending order and without duplicates.
+         */
+        long[] toSortedDistinctArray() {
+            Arrays.sort(pairs, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || pairs[distinct - 1] != pairs[i]) {
+                    pairs[distinct++] = pairs[i];
+                }
+            }
+            return Arrays.copyOf(pairs, distinct);
+        }
+    }
+
+    /**
+     * An interval or point on the one-week timeline, belonging to the person at index {@code owner}.
+     */
+    private static class Occurrence {
+        private final int owner;
+        private final long start;
+        private final long end;
+        private final boolean isRecurring;
+
+        Occurrence(int owner, long start, long end, boolean isRecurring) {
+            this.owner = owner;
+            this.start = start;
+            this.end = end;
+            this.isRecurring = isRecurring;
+        }
+
+        boolean isPoint() {
+            return start == end;
+        }
+    }
+}
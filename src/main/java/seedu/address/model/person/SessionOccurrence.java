@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A single occurrence of the session of a person, from {@code start} to {@code end}.
+ * One-off and monthly sessions occur at an instant, so their occurrences start and end at the same time.
+ * Guarantees: immutable; {@code end} is not before {@code start}.
+ */
+public class SessionOccurrence {
+
+    private final Person person;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Constructs a {@code SessionOccurrence} of the session of {@code person}.
+     */
+    public SessionOccurrence(Person person, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(person, start, end);
+        assert !end.isBefore(start);
+        this.person = person;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SessionOccurrence)) {
+            return false;
+        }
+
+        SessionOccurrence otherOccurrence = (SessionOccurrence) other;
+        return person.equals(otherOccurrence.person)
+                && start.equals(otherOccurrence.start)
+                && end.equals(otherOccurrence.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
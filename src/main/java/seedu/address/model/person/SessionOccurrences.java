@@ -0,0 +1,227 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Expands sessions into their occurrences, as lazily generated streams ordered by start.
+ * <p>
+ * Each weekly or biweekly slot and each monthly session is an unbounded sequence of occurrences that is only
+ * generated as far as a stream is consumed. The occurrences of several slots or persons are merged with a heap
+ * holding the next occurrence of each sequence, so taking the first m occurrences of k sequences takes
+ * O(k + m log k) time whatever the length of the range they span.
+ * <p>
+ * Occurrences are generated from a start time in the same way as {@link Session#getNextOccurrence(LocalDateTime)}:
+ * the first occurrence of a biweekly slot is its next occurrence from the start time, and monthly sessions on days
+ * that a month is too short for occur on the last day of that month.
+ */
+public class SessionOccurrences {
+
+    private static final Comparator<SessionOccurrence> OCCURRENCE_ORDER =
+            Comparator.comparing(SessionOccurrence::getStart);
+
+    private SessionOccurrences() {} // prevents instantiation
+
+    /**
+     * Returns the occurrences of the session of {@code person} that start at or after {@code from}, ordered by start.
+     * The stream is unbounded for recurring sessions.
+     */
+    public static Stream<SessionOccurrence> of(Person person, LocalDateTime from) {
+        requireAllNonNull(person, from);
+        return toStream(iteratorOf(person, from));
+    }
+
+    /**
+     * Returns the occurrences of the sessions of {@code persons} that start at or after {@code from}, ordered by
+     * start, and then by the order of {@code persons} for occurrences that start at the same time.
+     */
+    public static Stream<SessionOccurrence> of(Collection<Person> persons, LocalDateTime from) {
+        requireAllNonNull(persons, from);
+        List<Iterator<SessionOccurrence>> sequences = new ArrayList<>();
+        for (Person person : persons) {
+            sequences.add(iteratorOf(person, from));
+        }
+        return toStream(new MergingIterator(sequences));
+    }
+
+    /**
+     * Returns the occurrences of the sessions of {@code persons} that start from {@code from} (inclusive) to
+     * {@code to} (exclusive), ordered as in {@link #of(Collection, LocalDateTime)}.
+     */
+    public static Stream<SessionOccurrence> between(Collection<Person> persons, LocalDateTime from,
+            LocalDateTime to) {
+        requireNonNull(to);
+        return of(persons, from).takeWhile(occurrence -> occurrence.getStart().isBefore(to));
+    }
+
+    /**
+     * Returns the number of occurrences of the sessions of {@code persons} that start from {@code from}
+     * (inclusive) to {@code to} (exclusive).
+     */
+    public static long count(Collection<Person> persons, LocalDateTime from, LocalDateTime to) {
+        return between(persons, from, to).count();
+    }
+
+    private static Iterator<SessionOccurrence> iteratorOf(Person person, LocalDateTime from) {
+        Session session = person.getSession();
+        if (session == null) {
+            return List.<SessionOccurrence>of().iterator();
+        }
+
+        switch (session.getType()) {
+        case ONE_OFF:
+            LocalDateTime dateTime = session.getOneOffDateTime();
+            return dateTime.isBefore(from)
+                    ? List.<SessionOccurrence>of().iterator()
+                    : List.of(new SessionOccurrence(person, dateTime, dateTime)).iterator();
+        case MONTHLY:
+            return new MonthlyIterator(person, session, from);
+        default:
+            int weeksBetween = session.getType() == Session.SessionType.BIWEEKLY ? 2 : 1;
+            List<Iterator<SessionOccurrence>> slots = new ArrayList<>();
+            for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+                slots.add(new SlotIterator(person, slot, weeksBetween, from));
+            }
+            return slots.size() == 1 ? slots.get(0) : new MergingIterator(slots);
+        }
+    }
+
+    private static Stream<SessionOccurrence> toStream(Iterator<SessionOccurrence> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * The occurrences of a weekly or biweekly slot, {@code weeksBetween} weeks apart.
+     */
+    private static class SlotIterator implements Iterator<SessionOccurrence> {
+        private final Person person;
+        private final Session.RecurringSlot slot;
+        private final int weeksBetween;
+        private LocalDate date;
+
+        SlotIterator(Person person, Session.RecurringSlot slot, int weeksBetween, LocalDateTime from) {
+            this.person = person;
+            this.slot = slot;
+            this.weeksBetween = weeksBetween;
+            date = from.toLocalDate().with(TemporalAdjusters.nextOrSame(slot.getDay()));
+            if (date.atTime(slot.getStart()).isBefore(from)) {
+                date = date.plusWeeks(weeksBetween);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public SessionOccurrence next() {
+            SessionOccurrence occurrence = new SessionOccurrence(person, date.atTime(slot.getStart()),
+                    date.atTime(slot.getEnd()));
+            date = date.plusWeeks(weeksBetween);
+            return occurrence;
+        }
+    }
+
+    /**
+     * The occurrences of a monthly session, one in every month.
+     */
+    private static class MonthlyIterator implements Iterator<SessionOccurrence> {
+        private final Person person;
+        private final Session session;
+        private YearMonth month;
+
+        MonthlyIterator(Person person, Session session, LocalDateTime from) {
+            this.person = person;
+            this.session = session;
+            month = YearMonth.from(from);
+            if (occurrenceIn(month).isBefore(from)) {
+                month = month.plusMonths(1);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public SessionOccurrence next() {
+            LocalDateTime dateTime = occurrenceIn(month);
+            month = month.plusMonths(1);
+            return new SessionOccurrence(person, dateTime, dateTime);
+        }
+
+        private LocalDateTime occurrenceIn(YearMonth month) {
+            return month.atDay(Math.min(session.getDayOfMonth(), month.lengthOfMonth())).atTime(session.getTime());
+        }
+    }
+
+    /**
+     * Merges ordered sequences of occurrences into one ordered sequence with a heap of the next occurrence of each
+     * sequence. Occurrences that start at the same time are taken in the order of their sequences.
+     */
+    private static class MergingIterator implements Iterator<SessionOccurrence> {
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator
+                .comparing((Head head) -> head.occurrence, OCCURRENCE_ORDER)
+                .thenComparingInt(head -> head.sequenceIndex));
+
+        MergingIterator(List<Iterator<SessionOccurrence>> sequences) {
+            for (int i = 0; i < sequences.size(); i++) {
+                if (sequences.get(i).hasNext()) {
+                    heads.add(new Head(sequences.get(i), i));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public SessionOccurrence next() {
+            if (heads.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Head head = heads.poll();
+            SessionOccurrence occurrence = head.occurrence;
+            if (head.sequence.hasNext()) {
+                heads.add(new Head(head.sequence, head.sequenceIndex));
+            }
+            return occurrence;
+        }
+    }
+
+    /**
+     * The next occurrence of a sequence being merged, already taken from the sequence.
+     */
+    private static class Head {
+        private final Iterator<SessionOccurrence> sequence;
+        private final int sequenceIndex;
+        private final SessionOccurrence occurrence;
+
+        Head(Iterator<SessionOccurrence> sequence, int sequenceIndex) {
+            this.sequence = sequence;
+            this.sequenceIndex = sequenceIndex;
+            this.occurrence = sequence.next();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The next session occurrence of each person as a sort key, computed for one sort of a list of persons, so that
+ * sorting persons by upcoming session reads the clock once and computes each next occurrence once, instead of twice
+ * on every comparison.
+ * <p>
+ * Every key is computed against the same reference time, so one sort sees one consistent ordering even if the
+ * clock ticks during it. A key is the local date-time of the next occurrence in epoch seconds, or
+ * {@link #NO_OCCURRENCE} for persons without an upcoming session. The keys of the persons being sorted are computed
+ * up front and looked up by identity; the key of any other person, such as one added or edited after the sort, is
+ * computed against the same reference time each time it is asked for and is not kept. The keys therefore never
+ * outgrow the list they were computed for, and sorting again computes new keys against the time of that sort.
+ */
+public class SessionSortKeys {
+
+    public static final long NO_OCCURRENCE = Long.MAX_VALUE;
+
+    private final LocalDateTime reference;
+    private final Map<Person, Long> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates a {@code SessionSortKeys} with the current time of {@code clock} as reference time, which computes
+     * every key when it is asked for.
+     */
+    public SessionSortKeys(Clock clock) {
+        this(List.of(), clock);
+    }
+
+    /**
+     * Creates a {@code SessionSortKeys} with the current time of {@code clock} as reference time, and computes the
+     * keys of {@code persons} up front.
+     */
+    public SessionSortKeys(List<Person> persons, Clock clock) {
+        requireNonNull(persons);
+        requireNonNull(clock);
+        reference = LocalDateTime.now(clock);
+        for (Person person : persons) {
+            keys.put(person, computeKey(person));
+        }
+    }
+
+    /**
+     * Returns the sort key of {@code person}.
+     */
+    public long getKey(Person person) {
+        requireNonNull(person);
+        Long key = keys.get(person);
+        return key == null ? computeKey(person) : key;
+    }
+
+    private long computeKey(Person person) {
+        Session session = person.getSession();
+        if (session == null) {
+            return NO_OCCURRENCE;
+        }
+        return session.getNextOccurrence(reference)
+                .map(next -> next.toEpochSecond(ZoneOffset.UTC))
+                .orElse(NO_OCCURRENCE);
+    }
+}
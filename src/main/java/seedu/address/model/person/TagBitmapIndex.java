@@ -0,0 +1,160 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * An index of the tags of persons as one bitmap per tag, used to answer {@link TagFilter}s with bit operations
+ * instead of looking at the tags of every person.
+ * <p>
+ * Each distinct tag name of the indexed persons is given an int id, and each person a slot, which is the position of
+ * its bit in every bitmap. Slots of removed persons are reused, so the bitmaps stay as long as the largest number of
+ * persons indexed at once. When the last person with a tag is removed, the bitmap of the tag is dropped and its id
+ * is reused by the next new tag name.
+ * <p>
+ * The index is kept in addition to the tags of each {@link Person}, so it makes filtering by tag faster but uses
+ * more memory, not less.
+ */
+public class TagBitmapIndex {
+
+    /** Ids of the tag names of the indexed persons, which are their positions in {@code slotsByTag}. */
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    /** Slots of the persons with each tag, by tag id, or null for free ids. */
+    private final List<BitSet> slotsByTag = new ArrayList<>();
+    private final BitSet usedTagIds = new BitSet();
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
+    /** Names of the persons in each slot, or null for free slots. */
+    private final List<Name> namesBySlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+
+    /**
+     * Adds the tags of {@code person} to the index. The person must not already be in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !slotsByName.containsKey(person.getName());
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot == namesBySlot.size()) {
+            namesBySlot.add(person.getName());
+        } else {
+            namesBySlot.set(slot, person.getName());
+        }
+        slotsByName.put(person.getName(), slot);
+
+        for (Tag tag : person.getTags()) {
+            int id = tagIds.computeIfAbsent(tag.tagName, unused -> addTagId());
+            slotsByTag.get(id).set(slot);
+        }
+    }
+
+    /**
+     * Removes the tags of {@code person} from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByName.remove(person.getName());
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : person.getTags()) {
+            Integer id = tagIds.get(tag.tagName);
+            if (id == null) {
+                continue;
+            }
+            BitSet slots = slotsByTag.get(id);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                tagIds.remove(tag.tagName);
+                slotsByTag.set(id, null);
+                usedTagIds.clear(id);
+            }
+        }
+        usedSlots.clear(slot);
+        namesBySlot.set(slot, null);
+    }
+
+    /**
+     * Removes every person and tag from the index.
+     */
+    public void clear() {
+        tagIds.clear();
+        slotsByTag.clear();
+        usedTagIds.clear();
+        slotsByName.clear();
+        namesBySlot.clear();
+        usedSlots.clear();
+    }
+
+    /**
+     * Returns the number of distinct tag names of the persons in the index.
+     */
+    public int getTagCount() {
+        return tagIds.size();
+    }
+
+    /**
+     * Returns the names of the persons whose tags meet {@code filter}.
+     */
+    public Set<Name> find(TagFilter filter) {
+        BitSet slots = findSlots(filter);
+        Set<Name> names = new HashSet<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            names.add(namesBySlot.get(slot));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the number of persons whose tags meet {@code filter}.
+     */
+    public int count(TagFilter filter) {
+        return findSlots(filter).cardinality();
+    }
+
+    private BitSet findSlots(TagFilter filter) {
+        requireNonNull(filter);
+        BitSet slots = (BitSet) usedSlots.clone();
+        for (Tag tag : filter.getRequired()) {
+            slots.and(slotsOf(tag));
+        }
+        for (Set<Tag> group : filter.getAlternatives()) {
+            BitSet anyOfGroup = new BitSet();
+            group.forEach(tag -> anyOfGroup.or(slotsOf(tag)));
+            slots.and(anyOfGroup);
+        }
+        for (Tag tag : filter.getExcluded()) {
+            slots.andNot(slotsOf(tag));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the lowest free tag id, with an empty bitmap.
+     */
+    private int addTagId() {
+        int id = usedTagIds.nextClearBit(0);
+        usedTagIds.set(id);
+        if (id == slotsByTag.size()) {
+            slotsByTag.add(new BitSet());
+        } else {
+            slotsByTag.set(id, new BitSet());
+        }
+        return id;
+    }
+
+    private BitSet slotsOf(Tag tag) {
+        Integer id = tagIds.get(tag.tagName);
+        return id == null ? new BitSet() : slotsByTag.get(id);
+    }
+}
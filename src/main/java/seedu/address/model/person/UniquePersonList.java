@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +27,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by {@code Name}, which is all that {@code Person#isSamePerson(Person)} compares,
+ * so duplicate checks take constant time. Their sessions are indexed by a {@link ScheduleIndex}, so session
+ * conflict checks take logarithmic time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,12 +41,111 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons in {@code internalList} keyed by name. Kept in sync with {@code internalList}. */
+    private final Map<Name, Person> personsByName = new HashMap<>();
+
+    /** Sessions of the persons in {@code internalList}. Kept in sync with {@code internalList}. */
+    private ScheduleIndex scheduleIndex = new ScheduleIndex();
+
+    /** Minutes taken up by the sessions of the persons in {@code internalList}. Kept in sync with it. */
+    private final WeeklyOccupancy weeklyOccupancy = new WeeklyOccupancy();
+
+    /** Sessions of the persons in {@code internalList} ordered by when they occur. Kept in sync with it. */
+    private final OccurrenceIndex occurrenceIndex = new OccurrenceIndex();
+
+    /** Names of the persons in {@code internalList} keyed by the words in them. Kept in sync with it. */
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    /** Names of the persons in {@code internalList} keyed by their attributes. Kept in sync with it. */
+    private final PersonAttributeIndex attributeIndex = new PersonAttributeIndex(nameTokenIndex);
+
+    /** Unpaid persons in {@code internalList} ordered by deadline. Kept in sync with it. */
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    /** Incremented on every change to {@code internalList}, including reordering. */
+    private long version;
+
+    /**
+     * Returns a number that changes whenever the contents or order of this list change.
+     * Two calls returning the same value mean the list was not modified in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a copy of the minutes of the week taken up by the weekly and biweekly sessions in the list.
+     */
+    public WeeklyOccupancy getWeeklyOccupancy() {
+        return new WeeklyOccupancy(weeklyOccupancy);
+    }
+
+    /**
+     * Returns the earliest free session slots that meet {@code query} and do not conflict with any person's session,
+     * taking the current time from {@code clock}.
+     */
+    public List<Session> findFreeSlots(FreeSlotQuery query, Clock clock) {
+        requireAllNonNull(query, clock);
+        return new FreeSlotFinder(scheduleIndex, weeklyOccupancy).find(query, clock);
+    }
+
+    /**
+     * Returns the session occurrences of the persons in the list that start from {@code from} (inclusive) to
+     * {@code to} (exclusive), ordered by start.
+     */
+    public List<SessionOccurrence> getSessionOccurrences(LocalDateTime from, LocalDateTime to) {
+        return occurrenceIndex.between(from, to);
+    }
+
+    /**
+     * Returns the names of the persons in the list that contain any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    public Set<Name> findNamesContaining(Collection<String> keywords) {
+        return nameTokenIndex.find(keywords);
+    }
+
+    /**
+     * Returns the names of the persons in the list that contain a word matching any of {@code keywords} as a whole
+     * word, a prefix or with one typo, best matches first.
+     *
+     * @see NameTokenIndex#search(Collection)
+     */
+    public List<Name> searchNames(Collection<String> keywords) {
+        return nameTokenIndex.search(keywords);
+    }
+
+    /**
+     * Returns every unpaid person in the list ordered by deadline, earliest first, followed by those without one.
+     */
+    public List<Person> getUnpaidByDeadline() {
+        return deadlineIndex.getUnpaidByDeadline();
+    }
+
+    /**
+     * Returns the unpaid persons in the list with a deadline from {@code from} to {@code to}, both inclusive,
+     * earliest first.
+     */
+    public List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to) {
+        return deadlineIndex.getUnpaidDueBetween(from, to);
+    }
+
+    /**
+     * Runs {@code query} against the persons in the list.
+     *
+     * @see PersonQuery
+     */
+    public PersonQuery.QueryResult runQuery(PersonQuery query) {
+        requireNonNull(query);
+        return query.run(attributeIndex, personsByName);
+    }
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -50,6 +161,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new ConflictingSessionException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        scheduleIndex.add(toAdd);
+        weeklyOccupancy.add(toAdd.getSession());
+        occurrenceIndex.add(toAdd);
+        nameTokenIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+        deadlineIndex.add(toAdd);
+        version++;
     }
 
     /**
@@ -74,6 +193,21 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        scheduleIndex.remove(target);
+        scheduleIndex.add(editedPerson);
+        weeklyOccupancy.remove(target.getSession());
+        weeklyOccupancy.add(editedPerson.getSession());
+        occurrenceIndex.remove(target);
+        occurrenceIndex.add(editedPerson);
+        nameTokenIndex.remove(target);
+        nameTokenIndex.add(editedPerson);
+        attributeIndex.remove(target);
+        attributeIndex.add(editedPerson);
+        deadlineIndex.remove(target);
+        deadlineIndex.add(editedPerson);
+        version++;
     }
 
     /**
@@ -85,11 +219,24 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(toRemove.getName());
+        scheduleIndex.remove(toRemove);
+        weeklyOccupancy.remove(toRemove.getSession());
+        occurrenceIndex.remove(toRemove);
+        nameTokenIndex.remove(toRemove);
+        attributeIndex.remove(toRemove);
+        deadlineIndex.remove(toRemove);
+        version++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        scheduleIndex = indexSessions(replacement.internalList);
+        reindexPersons(replacement.internalList);
+        version++;
     }
 
     /**
@@ -101,11 +248,18 @@ public class UniquePersonList implements Iterable<Person> {
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
-        if (sessionsConflict(persons)) {
+        if (SessionConflictValidator.hasConflicts(persons)) {
             throw new ConflictingSessionException();
         }
 
         internalList.setAll(persons);
+        personsByName.clear();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+        }
+        scheduleIndex = indexSessions(persons);
+        reindexPersons(persons);
+        version++;
     }
 
     /**
@@ -124,6 +278,7 @@ public class UniquePersonList implements Iterable<Person> {
             Integer score2 = paymentSortScore(person2.getPaymentStatus());
             return score1.compareTo(score2);
         });
+        version++;
     }
 
     /**
@@ -138,9 +293,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasSessionConflict(Person toCheck, Person toIgnore) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .filter(existing -> toIgnore == null || !existing.equals(toIgnore))
-                .anyMatch(existing -> sessionsConflict(existing.getSession(), toCheck.getSession()));
+        return scheduleIndex.findConflict(toCheck.getSession(), toIgnore).isPresent();
     }
 
     @Override
@@ -177,31 +330,42 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
     }
 
-    private boolean sessionsConflict(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (sessionsConflict(persons.get(i).getSession(), persons.get(j).getSession())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    /**
+     * Returns a {@code ScheduleIndex} of the sessions of {@code persons}, which must not conflict.
+     */
+    private static ScheduleIndex indexSessions(List<Person> persons) {
+        ScheduleIndex index = new ScheduleIndex();
+        persons.forEach(index::add);
+        return index;
     }
 
-    private boolean sessionsConflict(Session first, Session second) {
-        requireNonNull(first);
-        requireNonNull(second);
-        return first.conflictsWith(second);
+    /**
+     * Replaces the minutes in {@code weeklyOccupancy}, the sessions in {@code occurrenceIndex}, the names in
+     * {@code nameTokenIndex} and {@code attributeIndex} and the deadlines in {@code deadlineIndex} with those of
+     * {@code persons}.
+     */
+    private void reindexPersons(List<Person> persons) {
+        weeklyOccupancy.clear();
+        occurrenceIndex.clear();
+        nameTokenIndex.clear();
+        attributeIndex.clear();
+        deadlineIndex.clear();
+        for (Person person : persons) {
+            weeklyOccupancy.add(person.getSession());
+            occurrenceIndex.add(person);
+            nameTokenIndex.add(person);
+            attributeIndex.add(person);
+            deadlineIndex.add(person);
+        }
     }
 
     private int paymentSortScore(Paid paidStatus) {
@@ -0,0 +1,135 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a list of the unpaid persons of a source list ordered by payment deadline, earliest first, as persons are
+ * added to, removed from and edited in the source list. Persons without a deadline are placed at the end, and
+ * persons due on the same day are ordered by name.
+ * <p>
+ * The deadline of each person is turned into its number of days since the epoch once, when the person is added, as
+ * in {@link DeadlineIndex}. Each change to the source list is applied with a binary search on those keys and one
+ * insertion or removal, instead of filtering and sorting the whole list again. Changes that add or remove more than
+ * one person at once, such as when the whole source list is replaced on clear, undo or load, are applied by sorting
+ * the unpaid persons of the source list once, as each insertion or removal takes linear time.
+ * <p>
+ * {@link DeadlineIndex} answers the same ordering for commands, but keeps no positions, so it cannot tell where a
+ * person goes in an observable list.
+ */
+public class UnpaidDeadlineList {
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparingLong((Entry entry) -> entry.day)
+            .thenComparing(entry -> entry.person.getName().fullName);
+
+    private final Map<Person, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> order = new ArrayList<>();
+    private final ObservableList<Person> unpaidPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unpaidUnmodifiablePersons =
+            FXCollections.unmodifiableObservableList(unpaidPersons);
+
+    /**
+     * Creates an {@code UnpaidDeadlineList} of the unpaid persons in {@code source}, which follows the additions to
+     * and removals from {@code source}.
+     */
+    public static UnpaidDeadlineList of(ObservableList<Person> source) {
+        requireNonNull(source);
+        UnpaidDeadlineList unpaidDeadlines = new UnpaidDeadlineList();
+        unpaidDeadlines.setAll(source);
+        source.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                    unpaidDeadlines.setAll(source);
+                    return;
+                }
+                change.getRemoved().forEach(unpaidDeadlines::remove);
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(unpaidDeadlines::add);
+                }
+            }
+        });
+        return unpaidDeadlines;
+    }
+
+    /**
+     * Adds {@code person} at the position of its deadline if it is unpaid.
+     * The person must not already be in the list.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !entries.containsKey(person);
+        if (DeadlineIndex.isPaid(person)) {
+            return;
+        }
+        Entry entry = new Entry(person, DeadlineIndex.dayKey(person));
+        int index = -Collections.binarySearch(order, entry, ENTRY_ORDER) - 1;
+        entries.put(person, entry);
+        order.add(index, entry);
+        unpaidPersons.add(index, person);
+    }
+
+    /**
+     * Removes {@code person} from the list, if it is in it.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.remove(person);
+        if (entry == null) {
+            return;
+        }
+        int index = Collections.binarySearch(order, entry, ENTRY_ORDER);
+        assert index >= 0 && order.get(index) == entry;
+        order.remove(index);
+        unpaidPersons.remove(index);
+    }
+
+    /**
+     * Replaces the contents of the list with the unpaid persons of {@code persons}, sorting them once instead of
+     * inserting them one by one.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        entries.clear();
+        order.clear();
+        for (Person person : persons) {
+            if (!DeadlineIndex.isPaid(person)) {
+                Entry entry = new Entry(person, DeadlineIndex.dayKey(person));
+                entries.put(person, entry);
+                order.add(entry);
+            }
+        }
+        order.sort(ENTRY_ORDER);
+        unpaidPersons.setAll(order.stream().map(entry -> entry.person).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the unpaid persons ordered by deadline.
+     */
+    public ObservableList<Person> getUnpaidPersons() {
+        return unpaidUnmodifiablePersons;
+    }
+
+    /**
+     * An unpaid person and the key of its deadline.
+     */
+    private static class Entry {
+        private final Person person;
+        private final long day;
+
+        Entry(Person person, long day) {
+            this.person = person;
+            this.day = day;
+        }
+    }
+}
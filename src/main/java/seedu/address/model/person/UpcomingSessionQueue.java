@@ -0,0 +1,190 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps a list of persons ordered by the next occurrence of their sessions up to date as time passes.
+ * Persons without an upcoming session are placed at the end, and persons with the same next occurrence keep the
+ * order in which they were added.
+ * <p>
+ * The next occurrences are kept in a priority queue, so {@link #advance()} only looks at the occurrences that have
+ * passed. The person of each passed occurrence is moved to the position of its following occurrence with one
+ * removal and one insertion, instead of sorting the whole list again. Entries of removed persons are left in the
+ * queue and skipped once they reach its head, until they make up most of the queue.
+ * <p>
+ * Changes to the source list that add or remove more than one person at once, such as a new filter or the whole
+ * list being replaced on clear, undo or load, are applied by sorting the persons of the source list once, as each
+ * insertion or removal takes linear time.
+ */
+public class UpcomingSessionQueue {
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparing((Entry entry) -> entry.occurrence, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final Clock clock;
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(ENTRY_ORDER);
+    private final Map<Person, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> order = new ArrayList<>();
+    private final ObservableList<Person> upcomingPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> upcomingUnmodifiablePersons =
+            FXCollections.unmodifiableObservableList(upcomingPersons);
+    private long nextSequence;
+
+    /**
+     * Creates an empty {@code UpcomingSessionQueue} that reads the current time from {@code clock}.
+     */
+    public UpcomingSessionQueue(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Creates an {@code UpcomingSessionQueue} of the persons in {@code source}, which follows the additions to and
+     * removals from {@code source}.
+     */
+    public static UpcomingSessionQueue of(ObservableList<Person> source, Clock clock) {
+        requireNonNull(source);
+        UpcomingSessionQueue upcomingSessions = new UpcomingSessionQueue(clock);
+        upcomingSessions.setAll(source);
+        source.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                    upcomingSessions.setAll(source);
+                    return;
+                }
+                change.getRemoved().forEach(upcomingSessions::remove);
+                if (change.wasAdded()) {
+                    change.getAddedSubList().forEach(upcomingSessions::add);
+                }
+            }
+        });
+        return upcomingSessions;
+    }
+
+    /**
+     * Adds {@code person} at the position of the next occurrence of its session.
+     * The person must not already be in the queue.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !entries.containsKey(person);
+        insert(new Entry(person, nextOccurrence(person, LocalDateTime.now(clock)), nextSequence++));
+    }
+
+    /**
+     * Removes {@code person} from the queue, if it is in it.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.remove(person);
+        if (entry == null) {
+            return;
+        }
+        removeFromOrder(entry);
+        if (queue.size() > 2 * entries.size()) {
+            // drop the entries of removed persons once they make up most of the queue
+            queue.clear();
+            entries.values().stream().filter(current -> current.occurrence != null).forEach(queue::add);
+        }
+    }
+
+    /**
+     * Replaces the contents of the queue with {@code persons}, sorting them once instead of inserting them one by one.
+     * Persons with the same next occurrence keep their order in {@code persons}.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        LocalDateTime now = LocalDateTime.now(clock);
+        entries.clear();
+        order.clear();
+        queue.clear();
+        for (Person person : persons) {
+            Entry entry = new Entry(person, nextOccurrence(person, now), nextSequence++);
+            entries.put(person, entry);
+            order.add(entry);
+        }
+        order.sort(ENTRY_ORDER);
+        order.stream().filter(entry -> entry.occurrence != null).forEach(queue::add);
+        upcomingPersons.setAll(order.stream().map(entry -> entry.person).collect(Collectors.toList()));
+    }
+
+    /**
+     * Moves every person whose next occurrence has passed to the position of its following occurrence.
+     * Returns the number of persons moved.
+     */
+    public int advance() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int moved = 0;
+        while (!queue.isEmpty() && queue.peek().occurrence.isBefore(now)) {
+            Entry passed = queue.poll();
+            if (entries.get(passed.person) != passed) {
+                continue; // the person was removed after this entry was queued
+            }
+            removeFromOrder(passed);
+            insert(new Entry(passed.person, nextOccurrence(passed.person, now), passed.sequence));
+            moved++;
+        }
+        return moved;
+    }
+
+    /**
+     * Returns the persons in order of the next occurrence of their sessions, as of the last {@link #advance()}.
+     */
+    public ObservableList<Person> getUpcomingPersons() {
+        return upcomingUnmodifiablePersons;
+    }
+
+    private void insert(Entry entry) {
+        entries.put(entry.person, entry);
+        if (entry.occurrence != null) {
+            queue.add(entry);
+        }
+        int index = -Collections.binarySearch(order, entry, ENTRY_ORDER) - 1;
+        order.add(index, entry);
+        upcomingPersons.add(index, entry.person);
+    }
+
+    private void removeFromOrder(Entry entry) {
+        int index = Collections.binarySearch(order, entry, ENTRY_ORDER);
+        assert index >= 0 && order.get(index) == entry;
+        order.remove(index);
+        upcomingPersons.remove(index);
+    }
+
+    private static LocalDateTime nextOccurrence(Person person, LocalDateTime now) {
+        Session session = person.getSession();
+        return session == null ? null : session.getNextOccurrence(now).orElse(null);
+    }
+
+    /**
+     * The next occurrence of the session of a person, or null if it has no upcoming session.
+     * The sequence number breaks ties between persons with the same next occurrence.
+     */
+    private static class Entry {
+        private final Person person;
+        private final LocalDateTime occurrence;
+        private final long sequence;
+
+        Entry(Person person, LocalDateTime occurrence, long sequence) {
+            this.person = person;
+            this.occurrence = occurrence;
+            this.sequence = sequence;
+        }
+    }
+}
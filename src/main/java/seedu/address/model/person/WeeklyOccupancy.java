@@ -0,0 +1,212 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The minutes of the week taken up by weekly and biweekly sessions, with one bit per minute of each weekday.
+ * A slot from {@code start} to {@code end} takes up the minutes in {@code [start, end)}.
+ * <p>
+ * Free/busy checks and utilization work on whole 64-bit words at a time. Slots are added and removed one
+ * session at a time, so removing a session only frees its minutes if no other added session overlaps them,
+ * which holds for the sessions of a list without session conflicts.
+ */
+public class WeeklyOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private final long[] words = new long[(MINUTES_PER_WEEK + WORD_SIZE - 1) / WORD_SIZE];
+
+    /**
+     * Creates a {@code WeeklyOccupancy} with every minute free.
+     */
+    public WeeklyOccupancy() {}
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    public WeeklyOccupancy(WeeklyOccupancy toCopy) {
+        requireNonNull(toCopy);
+        System.arraycopy(toCopy.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Returns the minutes taken up by the slots of {@code session}.
+     */
+    public static WeeklyOccupancy of(Session session) {
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        occupancy.add(session);
+        return occupancy;
+    }
+
+    /**
+     * Marks the minutes of the slots of {@code session} as busy.
+     * One-off and monthly sessions have no slots and are ignored.
+     */
+    public void add(Session session) {
+        requireNonNull(session);
+        for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+            setRange(toMinute(slot.getDay(), slot.getStart()), toMinute(slot.getDay(), slot.getEnd()), true);
+        }
+    }
+
+    /**
+     * Marks the minutes of the slots of {@code session} as free.
+     * One-off and monthly sessions have no slots and are ignored.
+     */
+    public void remove(Session session) {
+        requireNonNull(session);
+        for (Session.RecurringSlot slot : session.getRecurringSlots()) {
+            setRange(toMinute(slot.getDay(), slot.getStart()), toMinute(slot.getDay(), slot.getEnd()), false);
+        }
+    }
+
+    /**
+     * Marks every minute as free.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Returns true if the minute at {@code time} on {@code day} is busy.
+     */
+    public boolean isBusy(DayOfWeek day, LocalTime time) {
+        requireAllNonNull(day, time);
+        int minute = toMinute(day, time);
+        return (words[minute / WORD_SIZE] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Returns true if every minute from {@code start} to {@code end} on {@code day} is free.
+     * If {@code start} equals {@code end}, only the minute at {@code start} is checked.
+     */
+    public boolean isFree(DayOfWeek day, LocalTime start, LocalTime end) {
+        requireAllNonNull(day, start, end);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End time must not be before start time");
+        }
+        int from = toMinute(day, start);
+        int to = Math.max(from + 1, toMinute(day, end));
+        return countRange(from, to) == 0;
+    }
+
+    /**
+     * Returns true if any minute is busy in both this and {@code other}.
+     */
+    public boolean intersects(WeeklyOccupancy other) {
+        requireNonNull(other);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of busy minutes in the week.
+     */
+    public int getBusyMinutes() {
+        return countRange(0, MINUTES_PER_WEEK);
+    }
+
+    /**
+     * Returns the number of busy minutes on {@code day}.
+     */
+    public int getBusyMinutes(DayOfWeek day) {
+        requireNonNull(day);
+        int from = toMinute(day, LocalTime.MIDNIGHT);
+        return countRange(from, from + MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns the percentage of the week that is busy.
+     */
+    public double getUtilization() {
+        return 100.0 * getBusyMinutes() / MINUTES_PER_WEEK;
+    }
+
+    /**
+     * Returns the percentage of {@code day} that is busy.
+     */
+    public double getUtilization(DayOfWeek day) {
+        return 100.0 * getBusyMinutes(day) / MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns the minute of the week, counted from Monday 00:00, of {@code time} on {@code day}.
+     */
+    static int toMinute(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Sets the bits of the minutes in {@code [from, to)} to {@code isBusy}.
+     */
+    private void setRange(int from, int to, boolean isBusy) {
+        for (int word = from / WORD_SIZE; from < to; word++) {
+            int wordEnd = (word + 1) * WORD_SIZE;
+            long mask = rangeMask(from, Math.min(to, wordEnd));
+            words[word] = isBusy ? words[word] | mask : words[word] & ~mask;
+            from = wordEnd;
+        }
+    }
+
+    /**
+     * Returns the number of busy minutes in {@code [from, to)}.
+     */
+    private int countRange(int from, int to) {
+        int count = 0;
+        for (int word = from / WORD_SIZE; from < to; word++) {
+            int wordEnd = (word + 1) * WORD_SIZE;
+            count += Long.bitCount(words[word] & rangeMask(from, Math.min(to, wordEnd)));
+            from = wordEnd;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the mask of the bits of the minutes in {@code [from, to)}, which must lie within one word.
+     */
+    private static long rangeMask(int from, int to) {
+        long upTo = to % WORD_SIZE == 0 ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeeklyOccupancy)) {
+            return false;
+        }
+
+        WeeklyOccupancy otherOccupancy = (WeeklyOccupancy) other;
+        return Arrays.equals(words, otherOccupancy.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("busyMinutes", getBusyMinutes())
+                .toString();
+    }
+}
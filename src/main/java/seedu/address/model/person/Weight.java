@@ -28,6 +28,17 @@ public class Weight {
         this.value = Double.parseDouble(weightString);
     }
 
+    /**
+     * Constructs a {@code Weight} from an already parsed value, such as one read back from storage.
+     * Only the range is checked, as the value no longer has a textual format.
+     *
+     * @param weight The weight in kg.
+     */
+    public Weight(double weight) {
+        checkArgument(isValidWeight(weight), MESSAGE_CONSTRAINTS);
+        this.value = weight;
+    }
+
     /**
      * Returns true if a given string is a valid weight format and a positive number.
      */
@@ -36,14 +47,19 @@ public class Weight {
             return false;
         }
         try {
-            double weightValue = Double.parseDouble(test);
-            // Set lower and upper limits for weight
-            return (weightValue >= 20) && (weightValue <= 500);
+            return isValidWeight(Double.parseDouble(test));
         } catch (NumberFormatException e) {
             return false; // Should be caught by regex, but as a fallback
         }
     }
 
+    /**
+     * Returns true if a given weight in kg is within the accepted limits.
+     */
+    public static boolean isValidWeight(double weight) {
+        return (weight >= 20) && (weight <= 500);
+    }
+
     @Override
     public String toString() {
         // Format to display up to 2 decimal places
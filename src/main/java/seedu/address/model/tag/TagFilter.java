@@ -0,0 +1,115 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A filter on the tags of a person that combines AND, OR and NOT: the person must have every required tag, at
+ * least one tag of each group of alternatives, and none of the excluded tags.
+ * Guarantees: immutable; has at least one condition, and no empty group of alternatives.
+ */
+public class TagFilter {
+
+    public static final String MESSAGE_CONSTRAINTS = "A tag filter must have at least one tag, "
+            + "and every group of alternative tags must have at least one tag.";
+
+    private final Set<Tag> required;
+    private final List<Set<Tag>> alternatives;
+    private final Set<Tag> excluded;
+
+    /**
+     * Constructs a {@code TagFilter} for persons with all of {@code required}, at least one tag of each set in
+     * {@code alternatives}, and none of {@code excluded}.
+     */
+    public TagFilter(Set<Tag> required, List<Set<Tag>> alternatives, Set<Tag> excluded) {
+        requireAllNonNull(required, alternatives, excluded);
+        for (Set<Tag> group : alternatives) {
+            checkArgument(!group.isEmpty(), MESSAGE_CONSTRAINTS);
+        }
+        checkArgument(!required.isEmpty() || !alternatives.isEmpty() || !excluded.isEmpty(), MESSAGE_CONSTRAINTS);
+        this.required = Set.copyOf(required);
+        this.alternatives = alternatives.stream().map(Set::copyOf).collect(Collectors.toUnmodifiableList());
+        this.excluded = Set.copyOf(excluded);
+    }
+
+    /**
+     * Returns a filter for persons with {@code tag}.
+     */
+    public static TagFilter of(Tag tag) {
+        return new TagFilter(Set.of(tag), List.of(), Set.of());
+    }
+
+    public Set<Tag> getRequired() {
+        return required;
+    }
+
+    public List<Set<Tag>> getAlternatives() {
+        return alternatives;
+    }
+
+    public Set<Tag> getExcluded() {
+        return excluded;
+    }
+
+    /**
+     * Returns true if {@code tags} meet this filter.
+     */
+    public boolean matches(Set<Tag> tags) {
+        return tags.containsAll(required)
+                && alternatives.stream().allMatch(group -> !Collections.disjoint(group, tags))
+                && Collections.disjoint(excluded, tags);
+    }
+
+    /**
+     * Returns a short description of this filter for the user, such as {@code tag vip and no tag trial}.
+     */
+    public String getDescription() {
+        List<String> parts = new ArrayList<>();
+        required.stream().map(tag -> "tag " + tag.tagName).sorted().forEach(parts::add);
+        for (Set<Tag> group : alternatives) {
+            parts.add("tag " + group.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(" or ")));
+        }
+        excluded.stream().map(tag -> "no tag " + tag.tagName).sorted().forEach(parts::add);
+        return String.join(" and ", parts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilter)) {
+            return false;
+        }
+
+        TagFilter otherFilter = (TagFilter) other;
+        return required.equals(otherFilter.required)
+                && alternatives.equals(otherFilter.alternatives)
+                && excluded.equals(otherFilter.excluded);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(required, alternatives, excluded);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("required", required)
+                .add("alternatives", alternatives)
+                .add("excluded", excluded)
+                .toString();
+    }
+}
@@ -42,4 +42,26 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Makes sure every change passed to {@link #saveAddressBook(ReadOnlyAddressBook)} is reflected in the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Returns true if an address book passed to {@link #saveAddressBook(ReadOnlyAddressBook)} could not be written
+     * and no write has succeeded since. Storages that write before a save returns never have such a failure.
+     */
+    default boolean hasFailedSave() {
+        return false;
+    }
+
+    /**
+     * Returns the backup the address book was last read from because its data file was missing or could not be
+     * loaded, or an empty {@code Optional} if it was read from the data file itself.
+     */
+    default Optional<Path> getRestoredBackupPath() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Age;
+import seedu.address.model.person.Bodyfat;
+import seedu.address.model.person.Deadline;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Goal;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Paid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Weight;
+import seedu.address.model.person.exceptions.ConflictingSessionException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * The snapshot starts with a format version and a dictionary of every tag name, followed by one
+ * length-prefixed record per person. Numeric fields are stored already parsed and sessions in their
+ * canonical form, so loading neither builds a json tree nor re-validates the textual format of those fields.
+ * <p>
+ * The json data file stays the import/export format: it is imported when it is newer than the snapshot
+ * (or the snapshot is missing or unreadable), and it is brought up to date by {@link #flushAddressBook()}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book snapshot version %d.";
+    public static final String MESSAGE_CORRUPT_RECORD = "Snapshot record %d is corrupt.";
+    public static final String MESSAGE_UNKNOWN_TAG = "Snapshot record refers to unknown tag %d.";
+
+    private static final int MAGIC = 0x46425353; // "FBSS"
+    private static final int ABSENT_INT = 0;
+    private static final long ABSENT_DEADLINE = Long.MIN_VALUE;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /** Persons as last saved to the snapshot, or null if the json data file is up to date. */
+    private List<Person> unexportedPersons;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps its snapshot at {@code filePath} and imports from
+     * and exports to the json data file of {@code jsonStorage}.
+     */
+    public BinaryAddressBookStorage(Path filePath, JsonAddressBookStorage jsonStorage) {
+        requireNonNull(filePath);
+        requireNonNull(jsonStorage);
+        this.filePath = filePath;
+        this.jsonStorage = jsonStorage;
+    }
+
+    /**
+     * Returns the location of the snapshot kept alongside the json data file at {@code jsonFilePath}.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading from any location other than this storage's own snapshot imports a json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        if (isNewerThanSnapshot(jsonFilePath)) {
+            logger.info("Importing data file " + jsonFilePath + " as it is newer than snapshot " + filePath);
+            return jsonStorage.readAddressBook();
+        }
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readSnapshotFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(jsonFilePath)) {
+                throw e;
+            }
+            logger.warning("Snapshot " + filePath + " could not be loaded. Importing data file " + jsonFilePath);
+        }
+        return jsonStorage.readAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than this storage's own snapshot exports a json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> writeSnapshot(addressBook, new DataOutputStream(out)));
+        unexportedPersons = new ArrayList<>(addressBook.getPersonList());
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return jsonStorage.getRestoredBackupPath();
+    }
+
+    /**
+     * Exports the data last saved to the snapshot to the json data file, if it has changed since the last export.
+     * The snapshot is then given the same modification time as the json data file, so that the export is not
+     * mistaken for a newer file to import on the next read.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (unexportedPersons == null) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(unexportedPersons);
+        jsonStorage.saveAddressBook(addressBook);
+
+        FileTime exportedTime = Files.getLastModifiedTime(jsonStorage.getAddressBookFilePath());
+        Files.setLastModifiedTime(filePath, exportedTime);
+        unexportedPersons = null;
+    }
+
+    private boolean isNewerThanSnapshot(Path jsonFilePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(jsonFilePath)) {
+            return false;
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            return true;
+        }
+
+        try {
+            return Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(filePath)) > 0;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshotFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readSnapshot(new DataInputStream(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the snapshot format.
+     */
+    static void writeSnapshot(ReadOnlyAddressBook source, DataOutputStream out) throws IOException {
+        List<Person> persons = source.getPersonList();
+        Map<Tag, Integer> tagIds = new HashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                if (tagIds.putIfAbsent(tag, tags.size()) == null) {
+                    tags.add(tag);
+                }
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(person, tagIds, record);
+            record.flush();
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads an address book in the snapshot format from {@code in}.
+     *
+     * @throws IOException if the input is truncated or is not a snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readSnapshot(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Tag[] tags = new Tag[in.readInt()];
+        for (int i = 0; i < tags.length; i++) {
+            String tagName = in.readUTF();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = new Tag(tagName);
+        }
+
+        int personCount = in.readInt();
+        List<Person> persons = new ArrayList<>(Math.max(0, personCount));
+        Set<Name> names = new HashSet<>();
+        byte[] buffer = new byte[0];
+        for (int i = 0; i < personCount; i++) {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, i));
+            }
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+
+            ByteArrayInputStream recordBytes = new ByteArrayInputStream(buffer, 0, length);
+            Person person;
+            try {
+                person = readPerson(new DataInputStream(recordBytes), tags);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+            if (recordBytes.available() != 0) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, i));
+            }
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (ConflictingSessionException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
+    private static void writePerson(Person person, Map<Tag, Integer> tagIds, DataOutputStream out)
+            throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getAddress().value);
+        out.writeLong(person.getDeadline().asOptional().map(LocalDate::toEpochDay).orElse(ABSENT_DEADLINE));
+        writeNullableUtf(person.getGoal() == null ? null : person.getGoal().value, out);
+        out.writeInt(person.getHeight() == null ? ABSENT_INT : person.getHeight().value);
+        out.writeDouble(person.getWeight() == null ? Double.NaN : person.getWeight().value);
+        out.writeInt(person.getAge() == null ? ABSENT_INT : person.getAge().value);
+        writeNullableUtf(person.getGender() == null ? null : person.getGender().value, out);
+        out.writeBoolean(person.getPaymentStatus().value);
+        out.writeDouble(person.getBodyfat() == null ? Double.NaN : person.getBodyfat().value);
+        out.writeUTF(person.getSession().toStorageString());
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIds.get(tag));
+        }
+    }
+
+    /**
+     * Reads one person record. Invalid field values are reported by the model's constructors as
+     * {@code IllegalArgumentException}.
+     */
+    private static Person readPerson(DataInputStream in, Tag[] tags) throws IOException, IllegalValueException {
+        Name name = new Name(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        Email email = new Email(in.readUTF());
+        Address address = new Address(in.readUTF());
+
+        long deadlineEpochDay = in.readLong();
+        Deadline deadline = deadlineEpochDay == ABSENT_DEADLINE
+                ? Deadline.empty()
+                : Deadline.of(LocalDate.ofEpochDay(deadlineEpochDay));
+
+        String goalValue = readNullableUtf(in);
+        Goal goal = goalValue == null ? null : new Goal(goalValue);
+        int heightValue = in.readInt();
+        Height height = heightValue == ABSENT_INT ? null : new Height(heightValue);
+        double weightValue = in.readDouble();
+        Weight weight = Double.isNaN(weightValue) ? null : new Weight(weightValue);
+        int ageValue = in.readInt();
+        Age age = ageValue == ABSENT_INT ? null : new Age(ageValue);
+        String genderValue = readNullableUtf(in);
+        Gender gender = genderValue == null ? null : new Gender(genderValue);
+        Paid paid = new Paid(String.valueOf(in.readBoolean()));
+        double bodyfatValue = in.readDouble();
+        Bodyfat bodyfat = Double.isNaN(bodyfatValue) ? null : new Bodyfat(bodyfatValue);
+        Session session = Session.fromString(in.readUTF());
+
+        int tagCount = in.readInt();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagId = in.readInt();
+            if (tagId < 0 || tagId >= tags.length) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TAG, tagId));
+            }
+            personTags.add(tags[tagId]);
+        }
+
+        return new Person(name, phone, email, address, goal, height, weight, age, gender, deadline, paid, bodyfat,
+                session, personTags);
+    }
+
+    private static void writeNullableUtf(String value, DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUtf(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+}
@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.ConflictingSessionException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * Each save appends one compact record describing how the persons list changed since the previous save,
+ * so the snapshot is only rewritten on a checkpoint: when the journal grows past the checkpoint interval,
+ * or when {@link #flushAddressBook()} is called on exit.
+ * Reading replays the journal on top of the snapshot.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int checkpointInterval;
+
+    /** Persons as last written to disk, or null if the snapshot must be rewritten on the next save. */
+    private List<Person> persistedPersons;
+    private int journalRecordCount;
+    /** Header for the next journal, taken when the snapshot was last written, or null if not yet known. */
+    private JsonAdaptedJournalHeader snapshotHeader;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the snapshot at {@code filePath} that checkpoints
+     * after every {@code checkpointInterval} journal records.
+     */
+    public JournalingAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), checkpointInterval);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and
+     * checkpoints after every {@code checkpointInterval} journal records.
+     */
+    public JournalingAddressBookStorage(JsonAddressBookStorage snapshotStorage, int checkpointInterval) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return getJournalFilePath(getAddressBookFilePath());
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        int replayedCount = replayJournal(filePath, persons);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException | ConflictingSessionException e) {
+            logger.info("Replaying " + getJournalFilePath(filePath) + " produced invalid data: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedPersons = persons;
+            journalRecordCount = replayedCount;
+            snapshotHeader = null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than this storage's own file writes a plain json snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> currentPersons = addressBook.getPersonList();
+        if (persistedPersons == null || journalRecordCount >= checkpointInterval) {
+            checkpoint(addressBook);
+            return;
+        }
+
+        Optional<JsonAdaptedJournalRecord> record =
+                JsonAdaptedJournalRecord.between(persistedPersons, currentPersons);
+        if (!record.isPresent()) {
+            return;
+        }
+
+        appendToJournal(record.get());
+        persistedPersons = new ArrayList<>(currentPersons);
+        journalRecordCount++;
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return snapshotStorage.getRestoredBackupPath();
+    }
+
+    /**
+     * Folds the journal into a fresh snapshot, if there is anything to fold.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (persistedPersons == null || journalRecordCount == 0) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persistedPersons);
+        checkpoint(addressBook);
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and starts a new, empty journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        logger.fine("Writing checkpoint to data file: " + filePath);
+
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        snapshotHeader = JsonAdaptedJournalHeader.describing(filePath);
+        Files.deleteIfExists(getJournalFilePath());
+        persistedPersons = new ArrayList<>(addressBook.getPersonList());
+        journalRecordCount = 0;
+    }
+
+    private void appendToJournal(JsonAdaptedJournalRecord record) throws IOException {
+        Path journalFilePath = getJournalFilePath();
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            if (snapshotHeader == null) {
+                snapshotHeader = JsonAdaptedJournalHeader.describing(getAddressBookFilePath());
+            }
+            lines.append(JsonUtil.toJsonLine(snapshotHeader)).append('\n');
+        }
+        lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        FileUtil.appendToFile(journalFilePath, lines.toString());
+    }
+
+    /**
+     * Applies the records in the journal of the snapshot at {@code filePath} to {@code persons}.
+     * A journal that does not belong to the current snapshot is discarded, and a truncated final record
+     * (left behind by a crash during an append) is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private int replayJournal(Path filePath, List<Person> persons) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !isJournalOf(lines.get(0), filePath)) {
+                logger.warning("Discarding stale journal " + journalFilePath);
+                Files.deleteIfExists(journalFilePath);
+                return 0;
+            }
+
+            int appliedCount = 0;
+            for (int i = 1; i < lines.size(); i++) {
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (i == lines.size() - 1) {
+                        logger.warning("Skipping incomplete last record in journal " + journalFilePath);
+                        break;
+                    }
+                    throw e;
+                }
+                record.applyTo(persons);
+                appliedCount++;
+            }
+            logger.info("Replayed " + appliedCount + " record(s) from journal " + journalFilePath);
+            return appliedCount;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private boolean isJournalOf(String headerLine, Path filePath) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class).describes(filePath);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of a journal, identifying the snapshot that the journal's records build on
+ * by a hash of its content.
+ * A journal whose header no longer describes the snapshot on disk is stale, e.g. because the app stopped
+ * after writing a checkpoint but before clearing the old journal.
+ */
+class JsonAdaptedJournalHeader {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final String snapshotHash;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot hash.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotHash") String snapshotHash) {
+        this.snapshotHash = snapshotHash;
+    }
+
+    /**
+     * Returns a header describing the snapshot currently stored at {@code snapshotFile}.
+     */
+    public static JsonAdaptedJournalHeader describing(Path snapshotFile) throws IOException {
+        return new JsonAdaptedJournalHeader(hashOf(snapshotFile));
+    }
+
+    /**
+     * Returns true if this header describes the snapshot currently stored at {@code snapshotFile}.
+     */
+    public boolean describes(Path snapshotFile) throws IOException {
+        return snapshotHash != null && Files.exists(snapshotFile) && snapshotHash.equals(hashOf(snapshotFile));
+    }
+
+    private static String hashOf(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly journal entry describing one change to the persons list.
+ * A record replaces {@code removed} persons starting at index {@code from} with {@code persons},
+ * which is enough to express an add, an edit, a delete or a reordering of a contiguous range.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal record range [%d, %d) is outside a list of size %d.";
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given splice details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.from = from;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns the record that turns {@code before} into {@code after}, or {@code Optional.empty()} if the two
+     * lists hold the same persons in the same order.
+     * Only the range between the longest common prefix and the longest common suffix is recorded.
+     */
+    public static Optional<JsonAdaptedJournalRecord> between(List<Person> before, List<Person> after) {
+        int prefix = 0;
+        int maxPrefix = Math.min(before.size(), after.size());
+        while (prefix < maxPrefix && Objects.equals(before.get(prefix), after.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && Objects.equals(before.get(before.size() - 1 - suffix),
+                after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removed = before.size() - prefix - suffix;
+        List<Person> inserted = after.subList(prefix, after.size() - suffix);
+        if (removed == 0 && inserted.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>(inserted.size());
+        for (Person person : inserted) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return Optional.of(new JsonAdaptedJournalRecord(prefix, removed, adaptedPersons));
+    }
+
+    /**
+     * Applies this record to {@code target} in place.
+     *
+     * @throws IllegalValueException if the record does not fit {@code target} or holds invalid person data.
+     */
+    public void applyTo(List<Person> target) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, from, from + removed,
+                    target.size()));
+        }
+
+        List<Person> inserted = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            inserted.add(jsonAdaptedPerson.toModelType());
+        }
+
+        List<Person> range = target.subList(from, from + removed);
+        range.clear();
+        range.addAll(inserted);
+    }
+
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of a segmented address book, listing its segment files in order.
+ * Segment files are never overwritten: a changed segment is written to a new file of a later generation,
+ * and the manifest is replaced afterwards, so the manifest on disk always lists a complete set of segments.
+ */
+class JsonAdaptedSegmentManifest {
+
+    public static final String MESSAGE_INVALID_SEGMENT = "Manifest lists an invalid segment file name: %s";
+
+    private final long generation;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given generation and segment file names.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segments") List<String> segments) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the segment file names, in the order their persons appear in the address book.
+     *
+     * @throws IllegalValueException if a name could refer to a file outside the segment directory.
+     */
+    public List<String> getSegments() throws IllegalValueException {
+        for (String segment : segments) {
+            if (segment == null || !segment.matches("[\\w.-]+") || segment.startsWith(".")) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, segment));
+            }
+        }
+        return segments;
+    }
+
+}
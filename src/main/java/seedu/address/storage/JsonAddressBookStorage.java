@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -22,9 +26,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isParallelLoad;
+    private Path restoredBackupPath;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath} that writes indented json
+     * if {@code isPrettyPrinted}, or compact json otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, boolean)}, but if {@code isParallelLoad}, persons read
+     * from the file are converted in parallel on the common fork-join pool.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, boolean isParallelLoad) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isParallelLoad = isParallelLoad;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +63,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Falls back to the backup kept by the previous save if the file at {@code filePath} is missing or unreadable.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +71,45 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        restoredBackupPath = null;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(filePath);
+            if (addressBook.isPresent() || !FileUtil.isFileExists(backupFilePath)) {
+                return addressBook;
+            }
+            logger.warning("Data file " + filePath + " is missing. Restoring from backup " + backupFilePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded. Restoring from backup " + backupFilePath);
+        }
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(backupFilePath);
+        restoredBackupPath = backupFilePath;
+        return addressBook;
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return Optional.ofNullable(restoredBackupPath);
+    }
+
+    /**
+     * Streams the persons in the file at {@code filePath} into an {@code AddressBook}, so that the whole file
+     * never has to be held in memory as text or as an intermediate object graph.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            ForkJoinPool pool = isParallelLoad ? ForkJoinPool.commonPool() : null;
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser, pool));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +123,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically and its previous content is kept as a backup.
+     * Persons are streamed to the file one at a time rather than converted and serialized all at once.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +132,14 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFileWithBackup(filePath, isPrettyPrinted, generator ->
+                JsonSerializableAddressBook.writeModelType(addressBook, generator));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is written through immediately, so there is nothing to flush.
     }
 
 }
@@ -1,17 +1,30 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SessionConflict;
+import seedu.address.model.person.SessionConflictValidator;
+import seedu.address.model.person.exceptions.ConflictingSessionException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +33,20 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_MISSING_PERSONS = "Address book's persons list is missing!";
+    public static final String MESSAGE_MISSING_PERSON = "Persons list contains an empty entry.";
+    public static final String MESSAGE_CONFLICTING_SESSIONS =
+            "Persons list contains %d pair(s) of conflicting sessions:";
+    public static final String MESSAGE_CONFLICTING_SESSION_FORMAT = "Person %d (%s) and person %d (%s)";
+    public static final String MESSAGE_MORE_CONFLICTING_SESSIONS = "... and %d more";
+
+    /** Maximum number of conflicting pairs listed in the error message when loading fails. */
+    public static final int MAX_REPORTED_CONFLICTS = 10;
+    public static final String MESSAGE_INVALID_PERSONS = "Persons list contains %d invalid person(s):";
+    public static final String MESSAGE_INVALID_PERSON_FORMAT = "Person %d: %s";
+
+    /** Number of persons converted by each task when reading in parallel. */
+    public static final int PARALLEL_CHUNK_SIZE = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +73,213 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Reads an address book in this class's JSON format from {@code parser} directly into the model's
+     * {@code AddressBook}, converting each person as soon as it has been read.
+     * Unlike binding a whole {@code JsonSerializableAddressBook} and then calling {@link #toModelType()},
+     * at most one {@code JsonAdaptedPerson} is held in memory at a time.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, null);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but if {@code pool} is not null, the persons read are
+     * converted to the model's {@code Person} on {@code pool} in chunks of {@link #PARALLEL_CHUNK_SIZE} while
+     * the rest of the input is still being read. Every invalid person is reported, with its position in the list,
+     * and uniqueness and session conflicts are checked once all persons have been converted.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        return toAddressBook(readPersonList(parser, pool));
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser, ForkJoinPool)}, but returns the persons read without checking
+     * their uniqueness or session conflicts, so that persons read from several files can be checked together once
+     * with {@link #toAddressBook(List)}.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the expected structure.
+     * @throws IllegalValueException if any person is invalid.
+     */
+    static List<Person> readPersonList(JsonParser parser, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> persons = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if ("persons".equals(fieldName)) {
+                persons = pool == null ? readPersons(parser) : readPersonsInParallel(parser, pool);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (persons == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        return persons;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in this class's JSON format one person at a time.
+     * The output is the same as serializing a {@code JsonSerializableAddressBook} of {@code source},
+     * without first converting every person.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writeModelType(source.getPersonList(), generator);
+    }
+
+    /**
+     * Writes an address book of {@code persons} to {@code generator} in this class's JSON format.
+     *
+     * @see #writeModelType(ReadOnlyAddressBook, JsonGenerator)
+     */
+    public static void writeModelType(List<Person> persons, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static List<Person> readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+            if (jsonAdaptedPerson == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+            }
+            persons.add(jsonAdaptedPerson.toModelType());
+        }
+        return persons;
+    }
+
+    private static List<Person> readPersonsInParallel(JsonParser parser, ForkJoinPool pool)
+            throws IOException, IllegalValueException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+
+        List<ForkJoinTask<ConvertedChunk>> tasks = new ArrayList<>();
+        List<JsonAdaptedPerson> chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+        int readCount = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            chunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+            readCount++;
+            if (chunk.size() == PARALLEL_CHUNK_SIZE) {
+                tasks.add(pool.submit(new ConvertedChunk(readCount - chunk.size(), chunk)::convert));
+                chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            tasks.add(pool.submit(new ConvertedChunk(readCount - chunk.size(), chunk)::convert));
+        }
+
+        List<Person> persons = new ArrayList<>(readCount);
+        List<String> errors = new ArrayList<>();
+        for (ForkJoinTask<ConvertedChunk> task : tasks) {
+            ConvertedChunk converted = task.join();
+            persons.addAll(converted.persons);
+            errors.addAll(converted.errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSONS, errors.size())
+                    + "\n" + String.join("\n", errors));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code persons}, checking uniqueness and session conflicts in one pass
+     * over the whole list. If any sessions conflict, the error lists the conflicting persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (ConflictingSessionException e) {
+            throw new IllegalValueException(describeConflicts(persons), e);
         }
         return addressBook;
     }
 
+    private static String describeConflicts(List<Person> persons) {
+        List<SessionConflict> conflicts = SessionConflictValidator.findConflicts(persons);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CONFLICTING_SESSIONS, conflicts.size()));
+        for (SessionConflict conflict : conflicts.subList(0, Math.min(conflicts.size(), MAX_REPORTED_CONFLICTS))) {
+            message.append("\n").append(String.format(MESSAGE_CONFLICTING_SESSION_FORMAT,
+                    conflict.getFirstIndex() + 1, conflict.getFirst().getName(),
+                    conflict.getSecondIndex() + 1, conflict.getSecond().getName()));
+        }
+        if (conflicts.size() > MAX_REPORTED_CONFLICTS) {
+            message.append("\n").append(String.format(MESSAGE_MORE_CONFLICTING_SESSIONS,
+                    conflicts.size() - MAX_REPORTED_CONFLICTS));
+        }
+        return message.toString();
+    }
+
+    /**
+     * A run of consecutive persons from the persons list and the result of converting them to the model's type.
+     */
+    private static class ConvertedChunk {
+        private final int firstIndex;
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        ConvertedChunk(int firstIndex, List<JsonAdaptedPerson> adaptedPersons) {
+            this.firstIndex = firstIndex;
+            this.adaptedPersons = adaptedPersons;
+        }
+
+        /**
+         * Converts every person in this chunk, recording a message for each one that is invalid.
+         */
+        ConvertedChunk convert() {
+            for (int i = 0; i < adaptedPersons.size(); i++) {
+                JsonAdaptedPerson adaptedPerson = adaptedPersons.get(i);
+                try {
+                    if (adaptedPerson == null) {
+                        throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+                    }
+                    persons.add(adaptedPerson.toModelType());
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    errors.add(String.format(MESSAGE_INVALID_PERSON_FORMAT, firstIndex + i + 1, e.getMessage()));
+                }
+            }
+            return this;
+        }
+    }
+
 }
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as json segments plus a manifest listing them in order.
+ * A segment is a run of consecutive persons, and its boundaries are not fixed positions in the list: a save keeps
+ * every segment whose run of persons is still in the list unchanged, and only puts the persons around a change into
+ * new segments. Adding, editing or deleting one person therefore rewrites about one segment wherever it is in the
+ * list, while reordering many persons (as {@code sortbypaid} does) rewrites the segments whose persons moved.
+ * Persons are immutable, so a run is unchanged exactly when it still holds the same {@code Person} instances that
+ * were last read or written.
+ * <p>
+ * The json data file stays the import/export format: it is imported when there is no manifest yet or when it is
+ * newer than the manifest, and it is brought up to date by {@link #flushAddressBook()}.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_FORMAT = SEGMENT_FILE_PREFIX + "%d-%d.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path manifestFilePath;
+    private final int segmentSize;
+    private final JsonAddressBookStorage jsonStorage;
+
+    private long generation;
+    /** Segment file names listed by the manifest on disk, or null if they are not known. */
+    private List<String> persistedSegmentFiles;
+    /** Persons in each of {@code persistedSegmentFiles}, in the same order. */
+    private List<List<Person>> persistedSegments;
+    /** Persons saved since the json data file was last exported, or null if it is up to date. */
+    private List<Person> unexportedPersons;
+    private long segmentWriteCount;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} with its manifest at {@code manifestFilePath} that puts
+     * {@code segmentSize} persons in each segment, and imports from the json data file of {@code jsonStorage}.
+     */
+    public SegmentedAddressBookStorage(Path manifestFilePath, int segmentSize, JsonAddressBookStorage jsonStorage) {
+        requireNonNull(manifestFilePath);
+        requireNonNull(jsonStorage);
+        this.manifestFilePath = manifestFilePath;
+        this.segmentSize = Math.max(1, segmentSize);
+        this.jsonStorage = jsonStorage;
+    }
+
+    /**
+     * Returns the location of the manifest of the segments kept alongside the json data file at
+     * {@code jsonFilePath}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX)
+                .resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestFilePath;
+    }
+
+    /**
+     * Returns the number of segment files written so far.
+     */
+    public long getSegmentWriteCount() {
+        return segmentWriteCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading from any location other than this storage's own manifest imports a json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(manifestFilePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        if (isNewerThanManifest(jsonFilePath)) {
+            logger.info("Importing data file " + jsonFilePath + " into segments");
+            return jsonStorage.readAddressBook();
+        }
+
+        Optional<JsonAdaptedSegmentManifest> manifest =
+                JsonUtil.readJsonFile(manifestFilePath, JsonAdaptedSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return jsonStorage.readAddressBook();
+        }
+
+        // Segments are only parsed into persons, so that uniqueness and session conflicts are checked once overall
+        List<String> segmentFiles;
+        List<List<Person>> segments = new ArrayList<>();
+        AddressBook addressBook;
+        try {
+            segmentFiles = manifest.get().getSegments();
+            List<Person> persons = new ArrayList<>();
+            for (String segmentFile : segmentFiles) {
+                List<Person> segment = readSegment(manifestFilePath.resolveSibling(segmentFile));
+                segments.add(segment);
+                persons.addAll(segment);
+            }
+            addressBook = JsonSerializableAddressBook.toAddressBook(persons);
+        } catch (IOException e) {
+            logger.warning("Error reading segments of " + manifestFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in segments of " + manifestFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        generation = manifest.get().getGeneration();
+        persistedSegmentFiles = segmentFiles;
+        persistedSegments = segments;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than this storage's own manifest exports a json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(manifestFilePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (persistedSegmentFiles == null) {
+            generation = readGenerationOnDisk();
+        }
+        long nextGeneration = generation + 1;
+        FileUtil.createParentDirsOfFile(manifestFilePath);
+
+        Map<List<Person>, String> persistedFiles = new IdentityHashMap<>();
+        for (int i = 0; persistedSegments != null && i < persistedSegments.size(); i++) {
+            persistedFiles.put(persistedSegments.get(i), persistedSegmentFiles.get(i));
+        }
+
+        List<List<Person>> segments = partition(addressBook.getPersonList());
+        List<String> segmentFiles = new ArrayList<>();
+        for (int index = 0; index < segments.size(); index++) {
+            List<Person> segment = segments.get(index);
+            String segmentFile = persistedFiles.get(segment);
+            if (segmentFile == null) {
+                segmentFile = String.format(SEGMENT_FILE_FORMAT, index, nextGeneration);
+                JsonUtil.saveJsonFile(manifestFilePath.resolveSibling(segmentFile), false, generator ->
+                        JsonSerializableAddressBook.writeModelType(segment, generator));
+                segmentWriteCount++;
+            }
+            segmentFiles.add(segmentFile);
+        }
+
+        if (segmentFiles.equals(persistedSegmentFiles)) {
+            return;
+        }
+
+        JsonUtil.saveJsonFile(new JsonAdaptedSegmentManifest(nextGeneration, segmentFiles), manifestFilePath);
+        generation = nextGeneration;
+        persistedSegmentFiles = segmentFiles;
+        persistedSegments = segments;
+        unexportedPersons = new ArrayList<>(addressBook.getPersonList());
+        deleteUnlistedSegments();
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return jsonStorage.getRestoredBackupPath();
+    }
+
+    /**
+     * Exports the data last saved to the segments to the json data file, if it has changed since the last export.
+     * The manifest is then given the same modification time as the json data file, so that the export is not
+     * mistaken for a newer file to import on the next read.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (unexportedPersons == null) {
+            return;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(unexportedPersons);
+        jsonStorage.saveAddressBook(addressBook);
+
+        FileTime exportedTime = Files.getLastModifiedTime(jsonStorage.getAddressBookFilePath());
+        Files.setLastModifiedTime(manifestFilePath, exportedTime);
+        unexportedPersons = null;
+    }
+
+    /**
+     * Splits {@code persons} into segments of consecutive persons, reusing every persisted segment whose run of
+     * persons is still in {@code persons} unchanged. The persons between reused segments are put into new segments.
+     */
+    private List<List<Person>> partition(List<Person> persons) {
+        Map<Person, List<Person>> persistedByFirstPerson = new IdentityHashMap<>();
+        if (persistedSegments != null) {
+            persistedSegments.stream()
+                    .filter(segment -> !segment.isEmpty())
+                    .forEach(segment -> persistedByFirstPerson.put(segment.get(0), segment));
+        }
+
+        List<List<Person>> segments = new ArrayList<>();
+        List<Person> unsegmented = new ArrayList<>();
+        int position = 0;
+        while (position < persons.size()) {
+            List<Person> persisted = persistedByFirstPerson.get(persons.get(position));
+            if (persisted != null && isRunAt(persons, position, persisted)) {
+                addNewSegments(segments, unsegmented, persisted);
+                position += persisted.size();
+            } else {
+                unsegmented.add(persons.get(position));
+                position++;
+            }
+        }
+        addNewSegments(segments, unsegmented, null);
+        return segments;
+    }
+
+    /**
+     * Appends new segments of the persons in {@code unsegmented} to {@code segments}, followed by {@code next} if it
+     * is not null, and clears {@code unsegmented}. New segments hold from {@code segmentSize} to twice as many
+     * persons where there are enough of them; fewer than half of {@code segmentSize} persons are merged into the
+     * next or the previous segment instead, so that repeated small changes do not leave ever smaller segments.
+     */
+    private void addNewSegments(List<List<Person>> segments, List<Person> unsegmented, List<Person> next) {
+        List<Person> persons = new ArrayList<>(unsegmented);
+        unsegmented.clear();
+        boolean isSmall = !persons.isEmpty() && 2 * persons.size() < segmentSize;
+        if (isSmall && next != null) {
+            persons.addAll(next);
+            next = null;
+        } else if (isSmall && !segments.isEmpty()) {
+            persons.addAll(0, segments.remove(segments.size() - 1));
+        }
+
+        int count = Math.max(1, persons.size() / segmentSize);
+        for (int i = 0; i < count && !persons.isEmpty(); i++) {
+            segments.add(new ArrayList<>(persons.subList(i * persons.size() / count,
+                    (i + 1) * persons.size() / count)));
+        }
+        if (next != null) {
+            segments.add(next);
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} holds the same persons as {@code run}, in the same order, from {@code position}.
+     */
+    private static boolean isRunAt(List<Person> persons, int position, List<Person> run) {
+        if (position + run.size() > persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < run.size(); i++) {
+            if (persons.get(position + i) != run.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Person> readSegment(Path segmentFilePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(segmentFilePath)) {
+            return JsonSerializableAddressBook.readPersonList(parser, null);
+        }
+    }
+
+    private boolean isNewerThanManifest(Path jsonFilePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(jsonFilePath)) {
+            return false;
+        }
+        if (!FileUtil.isFileExists(manifestFilePath)) {
+            return true;
+        }
+        try {
+            return Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(manifestFilePath)) > 0;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the generation of the manifest on disk, so that segments written before it is read again
+     * never replace a file it still lists.
+     */
+    private long readGenerationOnDisk() {
+        try {
+            return JsonUtil.readJsonFile(manifestFilePath, JsonAdaptedSegmentManifest.class)
+                    .map(JsonAdaptedSegmentManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Deletes segment files that the manifest no longer lists, including any left behind by an interrupted save.
+     */
+    private void deleteUnlistedSegments() throws IOException {
+        Set<String> listed = new HashSet<>(persistedSegmentFiles);
+        Path segmentDirectory = manifestFilePath.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentDirectory, SEGMENT_FILE_PREFIX + "*.json")) {
+            for (Path file : files) {
+                if (!listed.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+}
@@ -29,4 +29,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void flushAddressBook() throws IOException;
+
+    @Override
+    boolean hasFailedSave();
+
+    @Override
+    Optional<Path> getRestoredBackupPath();
+
 }
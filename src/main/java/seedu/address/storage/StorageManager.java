@@ -75,4 +75,20 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Attempting to flush data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public boolean hasFailedSave() {
+        return addressBookStorage.hasFailedSave();
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return addressBookStorage.getRestoredBackupPath();
+    }
+
 }
@@ -0,0 +1,288 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Wraps another {@code AddressBookStorage} so that saves to its data file happen on a background writer thread.
+ * Saving only hands an immutable snapshot to the writer, which always writes the latest snapshot it has been
+ * given, so a burst of saves collapses into a single write. When the writer runs is decided by the
+ * {@link SaveDurability} policy. A failed write is reported by the next call to save or flush, and its snapshot
+ * is kept so that it is written again by the next save or flush unless a newer snapshot has replaced it.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final SaveDurability durability;
+    private final long saveIntervalMillis;
+
+    // All fields below are guarded by lock
+    private final Object lock = new Object();
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriting;
+    private boolean isFlushRequested;
+    private IOException pendingFailure;
+    private boolean isRetryHeld;
+    private boolean isLastWriteFailed;
+    private long lastWriteMillis;
+    private long writeCount;
+    private long coalescedCount;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code delegate} according to
+     * {@code durability}, waiting at least {@code saveIntervalMillis} between writes for
+     * {@link SaveDurability#PERIODIC}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate, SaveDurability durability,
+            long saveIntervalMillis) {
+        requireNonNull(delegate);
+        requireNonNull(durability);
+        this.delegate = delegate;
+        this.durability = durability;
+        this.saveIntervalMillis = Math.max(0, saveIntervalMillis);
+
+        Thread writer = new Thread(this::runWriter, "FitBook-storage-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return delegate.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than this storage's own file is written immediately.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            delegate.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        IOException failure;
+        synchronized (lock) {
+            if (pendingSnapshot != null) {
+                coalescedCount++;
+            }
+            pendingSnapshot = snapshot;
+            isRetryHeld = false;
+            failure = takePendingFailure();
+            lock.notifyAll();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Optional<Path> getRestoredBackupPath() {
+        return delegate.getRestoredBackupPath();
+    }
+
+    /**
+     * Blocks until every snapshot handed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written,
+     * then flushes the wrapped storage. A snapshot whose earlier write failed is written once more first.
+     *
+     * @throws IOException if a write during the flush failed or the wait was interrupted.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            // An earlier failure is superseded by the outcome of writing its snapshot again below
+            pendingFailure = null;
+            isRetryHeld = false;
+            isFlushRequested = true;
+            lock.notifyAll();
+            try {
+                while ((pendingSnapshot != null || isWriting) && pendingFailure == null) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+            } finally {
+                isFlushRequested = false;
+            }
+            failure = takePendingFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        delegate.flushAddressBook();
+    }
+
+    /**
+     * Returns true if the last background write failed, so the data file may be missing saved changes until
+     * the next write succeeds.
+     */
+    @Override
+    public boolean hasFailedSave() {
+        synchronized (lock) {
+            return isLastWriteFailed;
+        }
+    }
+
+    /**
+     * Returns the number of snapshots written so far.
+     */
+    public long getWriteCount() {
+        synchronized (lock) {
+            return writeCount;
+        }
+    }
+
+    /**
+     * Returns the number of snapshots that were replaced by a newer one before they could be written.
+     */
+    public long getCoalescedCount() {
+        synchronized (lock) {
+            return coalescedCount;
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            try {
+                snapshot = awaitNextSnapshot();
+            } catch (InterruptedException e) {
+                logger.warning("Storage writer interrupted; unsaved changes will be written on exit");
+                return;
+            }
+
+            IOException failure = null;
+            try {
+                delegate.saveAddressBook(snapshot);
+            } catch (IOException e) {
+                logger.warning("Background save to " + getAddressBookFilePath() + " failed: " + e);
+                failure = e;
+            }
+
+            synchronized (lock) {
+                isWriting = false;
+                lastWriteMillis = System.currentTimeMillis();
+                isLastWriteFailed = failure != null;
+                if (failure == null) {
+                    writeCount++;
+                } else {
+                    pendingFailure = failure;
+                    if (pendingSnapshot == null) {
+                        // Keep the snapshot for the next save or flush instead of retrying it in a loop
+                        pendingSnapshot = snapshot;
+                        isRetryHeld = true;
+                    }
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until the durability policy allows the pending snapshot to be written, then claims it.
+     */
+    private ReadOnlyAddressBook awaitNextSnapshot() throws InterruptedException {
+        synchronized (lock) {
+            while (true) {
+                long delay = pendingSnapshot == null ? -1 : millisUntilWriteAllowed();
+                if (delay == 0) {
+                    ReadOnlyAddressBook snapshot = pendingSnapshot;
+                    pendingSnapshot = null;
+                    isWriting = true;
+                    return snapshot;
+                }
+                if (delay < 0) {
+                    lock.wait();
+                } else {
+                    lock.wait(delay);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns 0 if the pending snapshot may be written now, the number of milliseconds to wait otherwise,
+     * or -1 if only a flush may write it. Must be called while holding {@code lock}.
+     */
+    private long millisUntilWriteAllowed() {
+        if (isRetryHeld) {
+            return -1;
+        }
+        if (isFlushRequested) {
+            return 0;
+        }
+
+        switch (durability) {
+        case ON_EXIT:
+            return -1;
+        case PERIODIC:
+            return Math.max(0, lastWriteMillis + saveIntervalMillis - System.currentTimeMillis());
+        default:
+            return 0;
+        }
+    }
+
+    private IOException takePendingFailure() {
+        IOException failure = pendingFailure;
+        pendingFailure = null;
+        return failure;
+    }
+
+    /**
+     * An immutable copy of the persons in an address book at the time of a save.
+     * Persons are immutable, so copying the list is enough.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+}
@@ -1,17 +1,21 @@
 package seedu.address.ui;
 
+import java.time.Clock;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonDeadlineComparator;
-import seedu.address.model.person.PersonSessionComparator;
+import seedu.address.model.person.UnpaidDeadlineList;
+import seedu.address.model.person.UpcomingSessionQueue;
 
 /**
  * UI component for the Dashboard screen.
@@ -21,12 +25,10 @@ import seedu.address.model.person.PersonSessionComparator;
  * while the right column displays a live view of <em>unpaid</em> clients sorted by
  * payment deadline (earliest first).</p>
  *
- * <p>The right list is built by wrapping the app’s master/filtered person list in a
- * {@link javafx.collections.transformation.FilteredList} (unpaid-only) and then a
- * {@link javafx.collections.transformation.SortedList} (by deadline). Because these
- * wrappers observe the same underlying {@link javafx.collections.ObservableList},
- * any add/edit/delete or status change performed in the Clients tab is reflected here
- * automatically without additional wiring.</p>
+ * <p>The right list is an {@link UnpaidDeadlineList} of the app’s master/filtered person list,
+ * which keeps the unpaid clients ordered by deadline. Because it observes the same underlying
+ * {@link javafx.collections.ObservableList}, any add/edit/delete or status change performed in
+ * the Clients tab is reflected here automatically without additional wiring.</p>
  *
  * <h2>FXML injection</h2>
  * <ul>
@@ -42,10 +44,11 @@ import seedu.address.model.person.PersonSessionComparator;
  *
  * @see seedu.address.ui.PersonListPanel
  * @see seedu.address.model.person.Person
- * @see seedu.address.model.person.PersonDeadlineComparator
+ * @see seedu.address.model.person.UnpaidDeadlineList
  */
 public class DashboardPanel extends UiPart<Region> {
     private static final String FXML = "DashboardPanel.fxml";
+    private static final Duration SESSION_REFRESH_INTERVAL = Duration.seconds(30);
 
     @FXML private VBox leftColumn;
     @FXML private VBox rightColumn;
@@ -54,35 +57,41 @@ public class DashboardPanel extends UiPart<Region> {
 
     private DeadlineListPanel unpaidListPanel;
     private SessionListPanel sessionListPanel;
+    private Timeline sessionRefreshTimer;
 
     public DashboardPanel() {
         super(FXML);
     }
 
-    /** Call this once from MainWindow after construction. */
+    /**
+     * Binds the right column to the unpaid persons of {@code masterList} sorted by deadline.
+     * Call this once from MainWindow after construction.
+     */
     public void bindRightList(ObservableList<Person> masterList) {
-        // Unpaid only  ->  p.getPaymentStatus().value == false
-        FilteredList<Person> unpaidOnly = new FilteredList<>(masterList, p ->
-                p.getPaymentStatus() != null && !p.getPaymentStatus().value);
-
-        // Sort by deadline ascending
-        SortedList<Person> unpaidByDeadline =
-                new SortedList<>(unpaidOnly, new PersonDeadlineComparator(true));
+        // Unpaid only, by deadline ascending, kept in order as clients are added, edited and removed
+        UnpaidDeadlineList unpaidByDeadline = UnpaidDeadlineList.of(masterList);
 
         // Render into the right column
-        unpaidListPanel = new DeadlineListPanel(unpaidByDeadline);
+        unpaidListPanel = new DeadlineListPanel(unpaidByDeadline.getUnpaidPersons());
         Node listRoot = unpaidListPanel.getRoot();
 
         rightListPlaceholder.getChildren().setAll(listRoot);
         VBox.setVgrow(listRoot, Priority.ALWAYS);
     }
 
-    /** Binds the left column to a list of persons sorted by upcoming session date. */
+    /**
+     * Binds the left column to a list of persons sorted by upcoming session date.
+     * A timer advances the sessions that have passed every {@link #SESSION_REFRESH_INTERVAL}, which only moves the
+     * clients of those sessions instead of sorting the whole list again.
+     */
     public void bindLeftList(ObservableList<Person> masterList) {
         // Sort by next session date ascending (soonest first)
-        var sortedBySession = new SortedList<>(masterList, new PersonSessionComparator());
+        UpcomingSessionQueue upcomingSessions = UpcomingSessionQueue.of(masterList, Clock.systemDefaultZone());
+        sessionRefreshTimer = new Timeline(new KeyFrame(SESSION_REFRESH_INTERVAL, event -> upcomingSessions.advance()));
+        sessionRefreshTimer.setCycleCount(Animation.INDEFINITE);
+        sessionRefreshTimer.play();
 
-        sessionListPanel = new SessionListPanel(sortedBySession);
+        sessionListPanel = new SessionListPanel(upcomingSessions.getUpcomingPersons());
         Node listRoot = sessionListPanel.getRoot();
         leftListPlaceholder.getChildren().setAll(listRoot);
         VBox.setVgrow(listRoot, Priority.ALWAYS);
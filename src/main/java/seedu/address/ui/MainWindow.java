@@ -13,6 +13,7 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -175,6 +176,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.getDataRestoredMessage().ifPresent(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -253,11 +255,38 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        exitIfSaved();
+    }
+
+    /**
+     * Closes the application when its window is closed, or keeps the window open if the data could not be saved.
+     */
+    @FXML
+    private void handleCloseRequest(WindowEvent event) {
+        if (!exitIfSaved()) {
+            event.consume();
+        }
+    }
+
+    /**
+     * Writes the changes not yet written to the data file and closes the application. If they could not be written,
+     * shows the error and keeps the application open so that the user can try again.
+     * Returns true if the application was closed.
+     */
+    private boolean exitIfSaved() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        try {
+            logic.flushAddressBook();
+        } catch (CommandException e) {
+            logger.warning("Could not save data before exiting: " + e.getMessage());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            return false;
+        }
         helpWindow.hide();
         primaryStage.hide();
+        return true;
     }
 
     public PersonListPanel getPersonListPanel() {
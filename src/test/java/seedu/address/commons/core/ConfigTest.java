@@ -12,7 +12,16 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalCheckpointInterval=" + config.getJournalCheckpointInterval()
+                + ", saveDurability=" + config.getSaveDurability()
+                + ", saveIntervalMillis=" + config.getSaveIntervalMillis()
+                + ", dataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", parallelLoadEnabled=" + config.isParallelLoadEnabled()
+                + ", binarySnapshotEnabled=" + config.isBinarySnapshotEnabled()
+                + ", segmentedStorageEnabled=" + config.isSegmentedStorageEnabled()
+                + ", segmentSize=" + config.getSegmentSize() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,73 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutLeftovers() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_previousContentBackedUp() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        Path backup = FileUtil.getBackupPath(file);
+
+        // no previous content -> no backup
+        FileUtil.writeToFileWithBackup(file, "first");
+        assertFalse(Files.exists(backup));
+
+        FileUtil.writeToFileWithBackup(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backup));
+
+        // backup rotates on every write
+        FileUtil.writeToFileWithBackup(file, "third");
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(backup));
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_previousFileLinkedAsBackup() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "first");
+        Object previousFileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        assumeTrue(previousFileKey != null);
+
+        FileUtil.writeToFileWithBackup(file, "second");
+        // the backup is the previous file itself, not a copy of it
+        assertEquals(previousFileKey,
+                Files.readAttributes(FileUtil.getBackupPath(file), BasicFileAttributes.class).fileKey());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_permissionsKept() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "first");
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileWithBackup(file, "second");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+        assertEquals(permissions, Files.getPosixFilePermissions(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void appendToFile_missingThenExistingFile_contentAppended() throws IOException {
+        Path file = testFolder.resolve("journal.jsonl");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
@@ -22,6 +22,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,6 +80,62 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandsThatChangeNothing_saveSkipped() throws Exception {
+        // The first command always saves
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveCount());
+        assertEquals(0, logic.getSkippedSaveCount());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveCount());
+        assertEquals(1, logic.getSkippedSaveCount());
+
+        model.addPerson(new PersonBuilder(AMY).build());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSaveCount());
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_earlierSaveFailed_savedAgain() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public boolean hasFailedSave() {
+                        return true;
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        // An unchanged address book is saved again while storage reports a failed save
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logic.getSaveCount());
+        assertEquals(0, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void getDataRestoredMessage() {
+        assertEquals(Optional.empty(), logic.getDataRestoredMessage());
+
+        Path backupPath = temporaryFolder.resolve("addressBook.json.bak");
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public Optional<Path> getRestoredBackupPath() {
+                        return Optional.of(backupPath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        assertEquals(Optional.of(String.format(LogicManager.DATA_RESTORED_FORMAT, backupPath)),
+                logic.getDataRestoredMessage());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -91,6 +148,20 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void flushAddressBook_storageThrowsIoException_throwsCommandException() {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void flushAddressBook() throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, storage);
+        assertThrows(CommandException.class, String.format(LogicManager.EXIT_SAVE_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), logic::flushAddressBook);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
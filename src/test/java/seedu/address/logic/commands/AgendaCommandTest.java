@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand.Period;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code AgendaCommand}.
+ */
+public class AgendaCommandTest {
+
+    // Wednesday, 11 March 2099
+    private static final LocalDate DATE = LocalDate.of(2099, 3, 11);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_day_listsSessionsOfDay() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 1, "2099-03-11", "2099-03-11")
+                + "\nWed 2099-03-11 10:00-11:00 Carl Kurz";
+        assertCommandSuccess(new AgendaCommand(Period.DAY, DATE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_week_listsSessionsFromMonday() {
+        String expectedMessage = String.format(AgendaCommand.MESSAGE_SUCCESS, 7, "2099-03-09", "2099-03-15")
+                + "\nMon 2099-03-09 08:00-09:00 Alice Pauline"
+                + "\nTue 2099-03-10 09:00-10:00 Benson Meier"
+                + "\nWed 2099-03-11 10:00-11:00 Carl Kurz"
+                + "\nThu 2099-03-12 11:00-12:00 Daniel Meier"
+                + "\nFri 2099-03-13 12:00-13:00 Elle Meyer"
+                + "\nSat 2099-03-14 13:00-14:00 Fiona Kunz"
+                + "\nSun 2099-03-15 14:00-15:00 George Best";
+        assertCommandSuccess(new AgendaCommand(Period.WEEK, DATE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_monthWithManySessions_restSummarised() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 30; i++) {
+            String day = i < 24 ? "MON" : "TUE";
+            addressBook.addPerson(new PersonBuilder().withName("Client " + i)
+                    .withSession(String.format("WEEKLY:%s-%02d00-%02d30", day, i % 24, i % 24)).build());
+        }
+        Model manyModel = new ModelManager(addressBook, new UserPrefs());
+
+        // 30 weekly clients with 5 Mondays or 5 Tuesdays in March 2099
+        String message = new AgendaCommand(Period.MONTH, DATE).execute(manyModel).getFeedbackToUser();
+        assertTrue(message.startsWith(String.format(AgendaCommand.MESSAGE_SUCCESS, 150, "2099-03-01", "2099-03-31")));
+        assertTrue(message.endsWith(String.format(AgendaCommand.MESSAGE_MORE_SESSIONS,
+                150 - AgendaCommand.MAX_LISTED_OCCURRENCES)));
+    }
+
+    @Test
+    public void execute_biweeklySession_markedWithNote() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Biweekly Client")
+                .withSession("BIWEEKLY:WED-0900-1000").build());
+        Model biweeklyModel = new ModelManager(addressBook, new UserPrefs());
+
+        String weekMessage = new AgendaCommand(Period.WEEK, DATE).execute(biweeklyModel).getFeedbackToUser();
+        assertEquals(String.format(AgendaCommand.MESSAGE_SUCCESS, 1, "2099-03-09", "2099-03-15")
+                + "\nWed 2099-03-11 09:00-10:00 Biweekly Client (biweekly)"
+                + "\n" + AgendaCommand.MESSAGE_BIWEEKLY_EVERY_WEEK, weekMessage);
+
+        // counted from 4 March 2099, so 11 March 2099 from the week view is left out
+        String monthMessage = new AgendaCommand(Period.MONTH, DATE).execute(biweeklyModel).getFeedbackToUser();
+        assertEquals(String.format(AgendaCommand.MESSAGE_SUCCESS, 2, "2099-03-01", "2099-03-31")
+                + "\nWed 2099-03-04 09:00-10:00 Biweekly Client (biweekly)"
+                + "\nWed 2099-03-18 09:00-10:00 Biweekly Client (biweekly)"
+                + "\n" + AgendaCommand.MESSAGE_BIWEEKLY_ALTERNATE_WEEKS, monthMessage);
+    }
+
+    @Test
+    public void execute_noSessions_showsNone() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new AgendaCommand(Period.DAY, DATE), emptyModel,
+                String.format(AgendaCommand.MESSAGE_NO_SESSIONS, "2099-03-11", "2099-03-11"),
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void equals() {
+        AgendaCommand weekCommand = new AgendaCommand(Period.WEEK, DATE);
+
+        assertTrue(weekCommand.equals(weekCommand));
+        assertTrue(weekCommand.equals(new AgendaCommand(Period.WEEK, DATE)));
+        assertFalse(weekCommand.equals(1));
+        assertFalse(weekCommand.equals(null));
+        assertFalse(weekCommand.equals(new AgendaCommand(Period.DAY, DATE)));
+        assertFalse(weekCommand.equals(new AgendaCommand(Period.WEEK, DATE.plusDays(1))));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DueCommand.View;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code DueCommand}.
+ */
+public class DueCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2099, 1, 10);
+
+    private final Person overdue = unpaid("Amy", "WEEKLY:MON-0800-0900", "2099-01-09");
+    private final Person dueToday = unpaid("Bob", "WEEKLY:TUE-0800-0900", "2099-01-10");
+    private final Person dueInAWeek = unpaid("Cara", "WEEKLY:WED-0800-0900", "2099-01-17");
+    private final Person dueLater = unpaid("Dan", "WEEKLY:THU-0800-0900", "2099-01-18");
+    private final Person noDeadline = unpaid("Eve", "WEEKLY:FRI-0800-0900", "");
+
+    private final Model model = new ModelManager(getAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_unpaid_listsAllUnpaidByDeadline() {
+        CommandResult result = new DueCommand(View.UNPAID, 0, TODAY).execute(model);
+        assertEquals(String.format(DueCommand.MESSAGE_UNPAID, 5), result.getFeedbackToUser());
+        assertTrue(result.isClient());
+        assertEquals(List.of(overdue, dueToday, dueInAWeek, dueLater, noDeadline), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_overdue_listsDeadlinesBeforeToday() {
+        CommandResult result = new DueCommand(View.OVERDUE, 0, TODAY).execute(model);
+        assertEquals(String.format(DueCommand.MESSAGE_OVERDUE, 1, "2099-01-10"), result.getFeedbackToUser());
+        assertEquals(List.of(overdue), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_within_listsDeadlinesFromTodayToLastDay() {
+        CommandResult result = new DueCommand(View.WITHIN, 7, TODAY).execute(model);
+        assertEquals(String.format(DueCommand.MESSAGE_DUE_WITHIN, 2, "2099-01-10", "2099-01-17"),
+                result.getFeedbackToUser());
+        assertEquals(List.of(dueToday, dueInAWeek), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenList_everyClientInAddressBookOrder() {
+        new DueCommand(View.WITHIN, 7, TODAY).execute(model);
+        new ListCommand().execute(model);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterSort_sortOrderRestoredByList() {
+        new SortByNameCommand(false).execute(model);
+        new DueCommand(View.UNPAID, 0, TODAY).execute(model);
+        assertEquals(List.of(overdue, dueToday, dueInAWeek, dueLater, noDeadline), model.getFilteredPersonList());
+
+        new ListCommand().execute(model);
+        List<Person> byNameDescending = new ArrayList<>(model.getAddressBook().getPersonList());
+        byNameDescending.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertEquals(byNameDescending, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_typicalPersonsAllPaid_noPersonFound() {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult result = new DueCommand(View.UNPAID, 0, TODAY).execute(typicalModel);
+        assertEquals(String.format(DueCommand.MESSAGE_UNPAID, 0), result.getFeedbackToUser());
+        assertEquals(List.of(), typicalModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void constructor_negativeDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DueCommand(View.WITHIN, -1, TODAY));
+    }
+
+    @Test
+    public void equals() {
+        DueCommand withinWeek = new DueCommand(View.WITHIN, 7, TODAY);
+
+        assertTrue(withinWeek.equals(withinWeek));
+        assertTrue(withinWeek.equals(new DueCommand(View.WITHIN, 7, TODAY)));
+        assertTrue(new DueCommand(View.OVERDUE, 3, TODAY).equals(new DueCommand(View.OVERDUE, 0, TODAY)));
+
+        assertFalse(withinWeek.equals(null));
+        assertFalse(withinWeek.equals(1));
+        assertFalse(withinWeek.equals(new DueCommand(View.WITHIN, 8, TODAY)));
+        assertFalse(withinWeek.equals(new DueCommand(View.WITHIN, 7, TODAY.plusDays(1))));
+        assertFalse(withinWeek.equals(new DueCommand(View.UNPAID, 7, TODAY)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DueCommand command = new DueCommand(View.WITHIN, 7, TODAY);
+        String expected = DueCommand.class.getCanonicalName() + "{view=WITHIN, days=7, today=2099-01-10}";
+        assertEquals(expected, command.toString());
+    }
+
+    private AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        List.of(dueLater, noDeadline, dueInAWeek, overdue, dueToday).forEach(addressBook::addPerson);
+        addressBook.addPerson(new PersonBuilder().withName("Fay").withDeadline("2099-01-09").withPaid("true")
+                .withSession("WEEKLY:SUN-0800-0900").build());
+        return addressBook;
+    }
+
+    private static Person unpaid(String name, String session, String deadline) {
+        return new PersonBuilder().withName(name).withSession(session).withDeadline(deadline).withPaid("false")
+                .build();
+    }
+}
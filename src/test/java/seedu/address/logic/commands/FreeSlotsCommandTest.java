@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code FreeSlotsCommand}.
+ */
+public class FreeSlotsCommandTest {
+
+    // Monday, 4 January 2100, 08:30
+    private static final Clock CLOCK = Clock.fixed(LocalDateTime.of(2100, 1, 4, 8, 30).toInstant(ZoneOffset.UTC),
+            ZoneId.of("UTC"));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_freeSlotsExist_listsSlots() {
+        FreeSlotQuery query = new FreeSlotQuery(60, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY),
+                LocalTime.of(8, 0), LocalTime.of(10, 0), SessionType.WEEKLY, 5);
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2)
+                + "\n1. WEEKLY:MON-0900-1000"
+                + "\n2. WEEKLY:TUE-0800-0900";
+        assertCommandSuccess(new FreeSlotsCommand(query, CLOCK), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneOff_searchesFromClock() {
+        FreeSlotQuery query = new FreeSlotQuery(60, EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(8, 0),
+                LocalTime.of(10, 0), SessionType.ONE_OFF, 2);
+        // 08:00 on 4 January 2100 has passed and is taken every Monday
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2)
+                + "\n1. " + Session.fromString("2100-01-04 09:00", CLOCK)
+                + "\n2. " + Session.fromString("2100-01-11 09:00", CLOCK);
+        assertCommandSuccess(new FreeSlotsCommand(query, CLOCK), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeSlots_showsNoneFound() {
+        FreeSlotQuery query = new FreeSlotQuery(60, EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(8, 0),
+                LocalTime.of(9, 0), SessionType.WEEKLY, 5);
+        assertCommandSuccess(new FreeSlotsCommand(query, CLOCK), model, FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotQuery firstQuery = new FreeSlotQuery(60, EnumSet.allOf(DayOfWeek.class), LocalTime.of(8, 0),
+                LocalTime.of(20, 0), SessionType.WEEKLY, 5);
+        FreeSlotQuery secondQuery = new FreeSlotQuery(30, EnumSet.allOf(DayOfWeek.class), LocalTime.of(8, 0),
+                LocalTime.of(20, 0), SessionType.WEEKLY, 5);
+        FreeSlotsCommand firstCommand = new FreeSlotsCommand(firstQuery, CLOCK);
+
+        assertTrue(firstCommand.equals(firstCommand));
+        assertTrue(firstCommand.equals(new FreeSlotsCommand(firstQuery, CLOCK)));
+        assertFalse(firstCommand.equals(1));
+        assertFalse(firstCommand.equals(null));
+        assertFalse(firstCommand.equals(new FreeSlotsCommand(secondQuery, CLOCK)));
+        assertFalse(firstCommand.equals(new FreeSlotsCommand(firstQuery, Clock.systemDefaultZone())));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.RangeField;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private final PersonQuery friendsQuery = new PersonQuery(List.of(QueryCondition.hasTag(new Tag("friends"))));
+    private final PersonQuery youngFriendsQuery = new PersonQuery(List.of(
+            QueryCondition.inRange(RangeField.AGE, 0, 30), QueryCondition.hasTag(new Tag("friends"))));
+
+    @Test
+    public void equals() {
+        QueryCommand friendsCommand = new QueryCommand(friendsQuery);
+
+        // same object -> returns true
+        assertTrue(friendsCommand.equals(friendsCommand));
+
+        // same values -> returns true
+        assertTrue(friendsCommand.equals(new QueryCommand(
+                new PersonQuery(List.of(QueryCondition.hasTag(new Tag("friends")))))));
+
+        // different types -> returns false
+        assertFalse(friendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(friendsCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(friendsCommand.equals(new QueryCommand(youngFriendsQuery)));
+    }
+
+    @Test
+    public void execute_query_listsMatchesAndReportsPlan() {
+        CommandResult result = new QueryCommand(youngFriendsQuery).execute(model);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), lines[0]);
+        assertTrue(lines[1].startsWith("Query took "), lines[1]);
+        assertTrue(lines[1].endsWith("ms, starting from tag friends (3 candidate(s))."), lines[1]);
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand queryCommand = new QueryCommand(friendsQuery);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + friendsQuery + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        CommandResult result = new SearchCommand(List.of("zzzz")).execute(model);
+        assertEquals(SearchCommand.MESSAGE_NO_RESULTS, result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefixAndTypo_rankedByMatchQuality() {
+        // "meier" matches Benson Meier and Daniel Meier exactly and Elle Meyer with a typo,
+        // and "ku" is a prefix of Carl Kurz and Fiona Kunz
+        CommandResult result = new SearchCommand(Arrays.asList("meier", "ku")).execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 5), result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, DANIEL, CARL, FIONA, ELLE),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenFind_rankOrderDropped() {
+        new SearchCommand(Arrays.asList("meier", "ku")).execute(model);
+        new FindCommand(new NameContainsKeywordsPredicate(List.of("Meier", "Kurz"))).execute(model);
+        assertEquals(List.of(BENSON, CARL, DANIEL), model.getFilteredPersonList());
+
+        new ListCommand().execute(model);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword");
+        SearchCommand searchCommand = new SearchCommand(keywords);
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
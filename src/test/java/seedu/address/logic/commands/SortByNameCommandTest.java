@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SortByNameCommandTest {
+
+    private Model getModel() {
+        AddressBook ab = new AddressBook();
+        // Keep original (unsorted) insertion order:
+        ab.addPerson(CARL);
+        ab.addPerson(ALICE);
+        ab.addPerson(BENSON);
+        return new ModelManager(ab, new UserPrefs());
+    }
+
+    @Test
+    public void execute_sortAscending_reordersListAToZ() {
+        Model model = getModel();
+        CommandResult result = new SortByNameCommand(true).execute(model);
+
+        assertEquals(List.of(ALICE, BENSON, CARL), new ArrayList<>(model.getFilteredPersonList()));
+        assertEquals(SortByNameCommand.MESSAGE_SUCCESS_ASC, result.getFeedbackToUser());
+        assertTrue(result.isClient());
+    }
+
+    @Test
+    public void execute_sortDescending_reordersListZToA() {
+        Model model = getModel();
+        CommandResult result = new SortByNameCommand(false).execute(model);
+
+        assertEquals(List.of(CARL, BENSON, ALICE), new ArrayList<>(model.getFilteredPersonList()));
+        assertEquals(SortByNameCommand.MESSAGE_SUCCESS_DESC, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new SortByNameCommand(true).equals(new SortByNameCommand(true)));
+        assertFalse(new SortByNameCommand(true).equals(new SortByNameCommand(false)));
+        assertFalse(new SortByNameCommand(true).equals(null));
+    }
+}
@@ -5,17 +5,29 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionOccurrence;
 
 /**
  * Unit tests for {@link SortBySessionCommand}.
@@ -107,6 +119,46 @@ public class SortBySessionCommandTest {
 
         @Override
         public ReadOnlyAddressBook getAddressBook() {
+            return new AddressBook();
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Session> findFreeSlots(FreeSlotQuery query, Clock clock) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SessionOccurrence> getSessionOccurrences(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findNamesContaining(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Name> searchNames(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonQuery.QueryResult runQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getUnpaidByDeadline() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getUnpaidDueBetween(LocalDate from, LocalDate to) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -135,6 +187,11 @@ public class SortBySessionCommandTest {
             // No action needed in stub
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSessionConflict(Person person, Person toIgnore) {
             throw new AssertionError("This method should not be called.");
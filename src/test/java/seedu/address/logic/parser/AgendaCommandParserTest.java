@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AgendaCommand;
+import seedu.address.logic.commands.AgendaCommand.Period;
+
+public class AgendaCommandParserTest {
+    private final AgendaCommandParser parser = new AgendaCommandParser();
+
+    @Test
+    public void parse_noArguments_weekOfToday() {
+        assertParseSuccess(parser, "", new AgendaCommand(Period.WEEK, LocalDate.now()));
+    }
+
+    @Test
+    public void parse_periodAndDate_success() {
+        assertParseSuccess(parser, " MONTH 2099-03-11", new AgendaCommand(Period.MONTH, LocalDate.of(2099, 3, 11)));
+        assertParseSuccess(parser, " day", new AgendaCommand(Period.DAY, LocalDate.now()));
+        assertParseSuccess(parser, " 2099-03-11 ", new AgendaCommand(Period.WEEK, LocalDate.of(2099, 3, 11)));
+    }
+
+    @Test
+    public void parse_invalidArguments_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AgendaCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " year", expectedMessage);
+        assertParseFailure(parser, " week 2099-02-30", expectedMessage);
+        assertParseFailure(parser, " 2099-03-11 week", expectedMessage);
+        assertParseFailure(parser, " week 2099-03-11 extra", expectedMessage);
+    }
+}
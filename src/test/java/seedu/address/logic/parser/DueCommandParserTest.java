@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DueCommand;
+import seedu.address.logic.commands.DueCommand.View;
+
+public class DueCommandParserTest {
+    private final DueCommandParser parser = new DueCommandParser();
+
+    @Test
+    public void parse_noArguments_allUnpaid() {
+        assertParseSuccess(parser, "  ", new DueCommand(View.UNPAID, 0, LocalDate.now()));
+    }
+
+    @Test
+    public void parse_overdueOrDays_success() {
+        assertParseSuccess(parser, " OVERDUE ", new DueCommand(View.OVERDUE, 0, LocalDate.now()));
+        assertParseSuccess(parser, " 0", new DueCommand(View.WITHIN, 0, LocalDate.now()));
+        assertParseSuccess(parser, " 30 ", new DueCommand(View.WITHIN, 30, LocalDate.now()));
+    }
+
+    @Test
+    public void parse_invalidArguments_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " soon", expectedMessage);
+        assertParseFailure(parser, " 7 overdue", expectedMessage);
+        assertParseFailure(parser, " 99999", expectedMessage);
+    }
+}
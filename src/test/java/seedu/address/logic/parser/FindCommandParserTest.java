@@ -1,15 +1,30 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryCondition;
+import seedu.address.model.person.QueryCondition.RangeField;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 
 public class FindCommandParserTest {
 
@@ -31,4 +46,59 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldConditions_returnsQueryCommand() {
+        QueryCommand expectedQueryCommand = new QueryCommand(new PersonQuery(List.of(
+                QueryCondition.nameHasAnyWord(List.of("alex", "yeoh")),
+                QueryCondition.hasTag(new Tag("vip")),
+                QueryCondition.isPaid(false),
+                QueryCondition.inRange(RangeField.DEADLINE, Double.NEGATIVE_INFINITY,
+                        Math.nextDown((double) LocalDate.of(2026, 11, 1).toEpochDay())),
+                QueryCondition.inRange(RangeField.AGE, 30, 40),
+                QueryCondition.hasSessionType(SessionType.WEEKLY),
+                QueryCondition.hasSessionOn(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)))));
+        assertParseSuccess(parser, "alex yeoh age/30-40 paid/false t/vip dl/<2026-11-01 type/weekly days/MON,FRI",
+                expectedQueryCommand);
+    }
+
+    @Test
+    public void parseTagFilter_requiredAlternativesAndExcluded_combinedIntoOneFilter() throws Exception {
+        TagFilter expectedFilter = new TagFilter(Set.of(new Tag("vip")),
+                List.of(Set.of(new Tag("group"), new Tag("solo"))), Set.of(new Tag("trial")));
+        assertEquals(expectedFilter, FindCommandParser.parseTagFilter(List.of("vip", " !trial", "group|solo")));
+        assertParseSuccess(parser, "t/vip t/!trial t/group|solo",
+                new QueryCommand(new PersonQuery(List.of(QueryCondition.matchesTags(expectedFilter)))));
+
+        assertParseFailure(parser, "t/vip|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "t/!", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parseRange_validRanges_returnsInclusiveBounds() throws Exception {
+        assertEquals(QueryCondition.inRange(RangeField.WEIGHT, 60.5, 60.5),
+                FindCommandParser.parseRange(RangeField.WEIGHT, " 60.5 "));
+        assertEquals(QueryCondition.inRange(RangeField.HEIGHT, 160, 170),
+                FindCommandParser.parseRange(RangeField.HEIGHT, "160..170"));
+        assertEquals(QueryCondition.inRange(RangeField.BODYFAT, 20, Double.POSITIVE_INFINITY),
+                FindCommandParser.parseRange(RangeField.BODYFAT, ">=20"));
+        assertEquals(QueryCondition.inRange(RangeField.AGE, Math.nextUp(30.0), Double.POSITIVE_INFINITY),
+                FindCommandParser.parseRange(RangeField.AGE, ">30"));
+        assertEquals(QueryCondition.inRange(RangeField.AGE, Double.NEGATIVE_INFINITY, 30),
+                FindCommandParser.parseRange(RangeField.AGE, "<=30"));
+        assertEquals(QueryCondition.inRange(RangeField.DEADLINE, LocalDate.of(2026, 11, 1).toEpochDay(),
+                LocalDate.of(2026, 12, 1).toEpochDay()),
+                FindCommandParser.parseRange(RangeField.DEADLINE, "2026-11-01..2026-12-01"));
+    }
+
+    @Test
+    public void parse_invalidFieldConditions_throwsParseException() {
+        assertParseFailure(parser, "age/30-", FindCommandParser.MESSAGE_CONSTRAINTS_RANGE);
+        assertParseFailure(parser, "age/abc", FindCommandParser.MESSAGE_CONSTRAINTS_RANGE);
+        assertParseFailure(parser, "dl/2026-13-01", FindCommandParser.MESSAGE_CONSTRAINTS_RANGE);
+        assertParseFailure(parser, "age/40-30", QueryCondition.MESSAGE_CONSTRAINTS_RANGE);
+        assertParseFailure(parser, "type/daily", Session.MESSAGE_CONSTRAINTS_TYPE);
+        assertParseFailure(parser, "t/v!p", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "paid/true paid/false",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_PAID));
+    }
 }
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.person.FreeSlotQuery;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
+
+public class FreeSlotsCommandParserTest {
+    private final FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_durationOnly_defaultsUsed() {
+        FreeSlotQuery query = new FreeSlotQuery(60, EnumSet.allOf(DayOfWeek.class), FreeSlotQuery.DEFAULT_FROM,
+                FreeSlotQuery.DEFAULT_TO, SessionType.WEEKLY, FreeSlotQuery.DEFAULT_COUNT);
+        assertParseSuccess(parser, " dur/60", new FreeSlotsCommand(query, Clock.systemDefaultZone()));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        FreeSlotQuery query = new FreeSlotQuery(45, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                LocalTime.of(9, 0), LocalTime.of(18, 30), SessionType.ONE_OFF, 3);
+        assertParseSuccess(parser, " dur/45 days/mon, FRI from/0900 to/18:30 type/oneoff count/3",
+                new FreeSlotsCommand(query, Clock.systemDefaultZone()));
+    }
+
+    @Test
+    public void parse_missingOrExtraFields_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+        // no duration
+        assertParseFailure(parser, " days/MON", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " 1 dur/60", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " dur/0", FreeSlotQuery.MESSAGE_CONSTRAINTS_DURATION);
+        assertParseFailure(parser, " dur/60 count/-1", FreeSlotQuery.MESSAGE_CONSTRAINTS_COUNT);
+        assertParseFailure(parser, " dur/60 days/MON,XYZ", Session.MESSAGE_CONSTRAINTS_DAY);
+        assertParseFailure(parser, " dur/60 days/,", Session.MESSAGE_CONSTRAINTS_DAYS);
+        assertParseFailure(parser, " dur/60 from/2500", Session.MESSAGE_CONSTRAINTS_TIME);
+        assertParseFailure(parser, " dur/60 type/monthly", FreeSlotQuery.MESSAGE_CONSTRAINTS_TYPE);
+        assertParseFailure(parser, " dur/120 from/0900 to/1000", FreeSlotQuery.MESSAGE_CONSTRAINTS_WINDOW);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " dur/60 dur/30",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DURATION));
+    }
+}
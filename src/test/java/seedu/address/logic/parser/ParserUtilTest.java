@@ -6,8 +6,10 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -19,6 +21,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.Session.SessionType;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -229,4 +232,30 @@ public class ParserUtilTest {
         Session expectedSession = Session.fromString(VALID_SESSION);
         assertEquals(expectedSession, ParserUtil.parseSession(sessionWithWhitespace));
     }
+
+    @Test
+    public void parseSessionType_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Session.MESSAGE_CONSTRAINTS_TYPE, () ->
+                ParserUtil.parseSessionType("daily"));
+    }
+
+    @Test
+    public void parseSessionType_validValue_returnsSessionType() throws Exception {
+        assertEquals(SessionType.WEEKLY, ParserUtil.parseSessionType(WHITESPACE + "Weekly" + WHITESPACE));
+        assertEquals(SessionType.BIWEEKLY, ParserUtil.parseSessionType("biweekly"));
+        assertEquals(SessionType.MONTHLY, ParserUtil.parseSessionType("MONTHLY"));
+        assertEquals(SessionType.ONE_OFF, ParserUtil.parseSessionType("oneoff"));
+        assertEquals(SessionType.ONE_OFF, ParserUtil.parseSessionType("one-off"));
+    }
+
+    @Test
+    public void parseDays_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, Session.MESSAGE_CONSTRAINTS_DAY, () -> ParserUtil.parseDays("MON,FUN"));
+        assertThrows(ParseException.class, Session.MESSAGE_CONSTRAINTS_DAYS, () -> ParserUtil.parseDays(" , "));
+    }
+
+    @Test
+    public void parseDays_validValue_returnsDays() throws Exception {
+        assertEquals(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), ParserUtil.parseDays("fri, MON,,monday"));
+    }
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortByNameCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class SortByNameCommandParserTest {
+
+    private final SortByNameCommandParser parser = new SortByNameCommandParser();
+
+    @Test
+    public void parse_emptyOrAsc_returnsAscending() throws Exception {
+        assertEquals(new SortByNameCommand(true), parser.parse(""));
+        assertEquals(new SortByNameCommand(true), parser.parse("  ASC  "));
+    }
+
+    @Test
+    public void parse_desc_returnsDescending() throws Exception {
+        assertEquals(new SortByNameCommand(false), parser.parse("desc"));
+        assertEquals(new SortByNameCommand(false), parser.parse("  DeSc  "));
+    }
+
+    @Test
+    public void parse_invalid_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("alphabetical"));
+        assertThrows(ParseException.class, () -> parser.parse("asc desc"));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class DeadlineIndexTest {
+
+    private final DeadlineIndex index = new DeadlineIndex();
+
+    private final Person early = unpaid("Amy", "2099-01-05");
+    private final Person sameDay = unpaid("Bob", "2099-01-05");
+    private final Person late = unpaid("Cara", "2099-02-01");
+    private final Person noDeadline = unpaid("Dan", "");
+    private final Person paid = new PersonBuilder().withName("Eve").withDeadline("2099-01-01").withPaid("true").build();
+
+    @Test
+    public void getUnpaidByDeadline_unpaidOnly_orderedByDeadlineThenName() {
+        List.of(noDeadline, late, paid, sameDay, early).forEach(index::add);
+        assertEquals(4, index.size());
+        assertEquals(List.of(early, sameDay, late, noDeadline), index.getUnpaidByDeadline());
+    }
+
+    @Test
+    public void getUnpaidDueBetween_inclusiveRange() {
+        List.of(noDeadline, late, paid, sameDay, early).forEach(index::add);
+        assertEquals(List.of(early, sameDay), index.getUnpaidDueBetween(LocalDate.MIN, LocalDate.of(2099, 1, 31)));
+        assertEquals(List.of(early, sameDay, late),
+                index.getUnpaidDueBetween(LocalDate.of(2099, 1, 5), LocalDate.of(2099, 2, 1)));
+        assertEquals(List.of(), index.getUnpaidDueBetween(LocalDate.of(2099, 1, 6), LocalDate.of(2099, 1, 31)));
+        assertEquals(List.of(), index.getUnpaidDueBetween(LocalDate.of(2099, 2, 1), LocalDate.of(2099, 1, 1)));
+    }
+
+    @Test
+    public void remove_editedDeadlineAndPaidStatus_indexUpdated() {
+        List.of(early, late).forEach(index::add);
+        Person postponed = new PersonBuilder(early).withDeadline("2099-03-01").build();
+        index.remove(early);
+        index.add(postponed);
+        assertEquals(List.of(late, postponed), index.getUnpaidByDeadline());
+
+        Person settled = new PersonBuilder(late).withPaid("true").build();
+        index.remove(late);
+        index.add(settled);
+        index.remove(settled); // never indexed
+        assertEquals(List.of(postponed), index.getUnpaidByDeadline());
+
+        index.remove(early); // no longer indexed
+        assertEquals(1, index.size());
+        index.clear();
+        assertEquals(List.of(), index.getUnpaidByDeadline());
+    }
+
+    @Test
+    public void getUnpaidDueBetween_randomPersons_sameAsFilterAndSort() {
+        Random random = new Random(24);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String deadline = random.nextInt(10) == 0 ? "" : LocalDate.of(2099, 1, 1)
+                    .plusDays(random.nextInt(60)).toString();
+            persons.add(new PersonBuilder().withName("Person " + i).withDeadline(deadline)
+                    .withPaid(String.valueOf(random.nextBoolean())).build());
+        }
+        persons.forEach(index::add);
+        Comparator<Person> byDeadline = new PersonDeadlineComparator(true)
+                .thenComparing(person -> person.getName().fullName);
+
+        assertEquals(persons.stream().filter(person -> !person.getPaymentStatus().value).sorted(byDeadline)
+                .collect(Collectors.toList()), index.getUnpaidByDeadline());
+        for (int i = 0; i < 50; i++) {
+            LocalDate from = LocalDate.of(2099, 1, 1).plusDays(random.nextInt(60));
+            LocalDate to = from.plusDays(random.nextInt(10));
+            List<Person> expected = persons.stream()
+                    .filter(person -> !person.getPaymentStatus().value)
+                    .filter(person -> person.getDeadline().asOptional()
+                            .map(date -> !date.isBefore(from) && !date.isAfter(to)).orElse(false))
+                    .sorted(byDeadline)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.getUnpaidDueBetween(from, to));
+        }
+    }
+
+    private static Person unpaid(String name, String deadline) {
+        return new PersonBuilder().withName(name).withDeadline(deadline).withPaid("false").build();
+    }
+}
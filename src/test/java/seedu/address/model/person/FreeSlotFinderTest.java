@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.testutil.PersonBuilder;
+
+public class FreeSlotFinderTest {
+
+    // Monday, 4 January 2100, 10:00
+    private static final Clock CLOCK = Clock.fixed(LocalDateTime.of(2100, 1, 4, 10, 0).toInstant(ZoneOffset.UTC),
+            ZoneId.of("UTC"));
+    private static final Set<DayOfWeek> MONDAY = EnumSet.of(DayOfWeek.MONDAY);
+
+    @Test
+    public void find_weekly_skipsBusySlots() {
+        FreeSlotFinder finder = finderOf("WEEKLY:MON-0900-1000", "BIWEEKLY:MON-1030-1100");
+        FreeSlotQuery query = new FreeSlotQuery(60, MONDAY, LocalTime.of(9, 0), LocalTime.of(13, 0),
+                SessionType.WEEKLY, 5);
+
+        assertEquals(List.of(Session.fromString("WEEKLY:MON-1100-1200", CLOCK),
+                Session.fromString("WEEKLY:MON-1200-1300", CLOCK)), finder.find(query, CLOCK));
+    }
+
+    @Test
+    public void find_weekly_skipsMonthlyAndOneOffSessions() {
+        FreeSlotFinder finder = finderOf("MONTHLY:15 09:30", "2100-01-12 10:15");
+        FreeSlotQuery query = new FreeSlotQuery(30, EnumSet.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0),
+                LocalTime.of(11, 0), SessionType.WEEKLY, 5);
+
+        assertEquals(List.of(Session.fromString("WEEKLY:TUE-0900-0930", CLOCK),
+                Session.fromString("WEEKLY:TUE-0945-1015", CLOCK),
+                Session.fromString("WEEKLY:TUE-1030-1100", CLOCK)), finder.find(query, CLOCK));
+    }
+
+    @Test
+    public void find_countReached_stopsEarly() {
+        FreeSlotFinder finder = finderOf();
+        FreeSlotQuery query = new FreeSlotQuery(60, EnumSet.allOf(DayOfWeek.class), LocalTime.of(8, 0),
+                LocalTime.of(20, 0), SessionType.BIWEEKLY, 2);
+
+        assertEquals(List.of(Session.fromString("BIWEEKLY:MON-0800-0900", CLOCK),
+                Session.fromString("BIWEEKLY:MON-0900-1000", CLOCK)), finder.find(query, CLOCK));
+    }
+
+    @Test
+    public void find_oneOff_skipsPastTimesAndBusySlots() {
+        FreeSlotFinder finder = finderOf("WEEKLY:MON-1000-1100", "2100-01-04 12:00");
+        FreeSlotQuery query = new FreeSlotQuery(60, MONDAY, LocalTime.of(9, 0), LocalTime.of(14, 0),
+                SessionType.ONE_OFF, 3);
+
+        assertEquals(List.of(Session.fromString("2100-01-04 11:00", CLOCK),
+                Session.fromString("2100-01-04 12:15", CLOCK),
+                Session.fromString("2100-01-11 09:00", CLOCK)), finder.find(query, CLOCK));
+    }
+
+    @Test
+    public void find_noRoom_returnsEmptyList() {
+        FreeSlotFinder finder = finderOf("WEEKLY:MON-0900-1000-MON-1030-1100");
+        FreeSlotQuery query = new FreeSlotQuery(45, MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0),
+                SessionType.WEEKLY, 5);
+
+        assertTrue(finder.find(query, CLOCK).isEmpty());
+    }
+
+    @Test
+    public void find_slotsFound_doNotConflictWithSessions() {
+        String[] sessions = {"WEEKLY:MON-0915-1005-WED-1300-1410", "BIWEEKLY:TUE-0800-0945", "MONTHLY:6 11:00",
+            "2100-01-06 09:00"};
+        FreeSlotFinder finder = finderOf(sessions);
+
+        for (SessionType type : List.of(SessionType.WEEKLY, SessionType.BIWEEKLY, SessionType.ONE_OFF)) {
+            FreeSlotQuery query = new FreeSlotQuery(40, EnumSet.allOf(DayOfWeek.class), LocalTime.of(8, 0),
+                    LocalTime.of(15, 0), type, 50);
+            List<Session> slots = finder.find(query, CLOCK);
+            assertEquals(50, slots.size());
+            for (Session slot : slots) {
+                for (String session : sessions) {
+                    assertFalse(slot.conflictsWith(Session.fromString(session)), slot + " conflicts with " + session);
+                }
+            }
+        }
+    }
+
+    private static FreeSlotFinder finderOf(String... sessions) {
+        ScheduleIndex index = new ScheduleIndex();
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        for (int i = 0; i < sessions.length; i++) {
+            Person person = new PersonBuilder().withName("Person " + (char) ('A' + i)).withSession(sessions[i]).build();
+            index.add(person);
+            occupancy.add(person.getSession());
+        }
+        return new FreeSlotFinder(index, occupancy);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the time taken and the memory allocated to match and to sort the names of many persons, compared with
+ * splitting or collating each name again every time it is used.
+ * Excluded from {@code gradle test}; run it with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+public class NameBenchmarkTest {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final String[] WORDS = {"Alex", "Yeoh", "Bernice", "Yu", "Charlotte", "Oliveiro", "David", "Li",
+        "Irfan", "Ibrahim", "Roy", "Balakrishnan", "Elodie", "Zoe", "van", "der", "Berg"};
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<Person> persons = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "allocated memory cannot be measured on this JVM");
+        Random random = new Random(0);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            persons.add(new PersonBuilder().withName(name).build());
+        }
+    }
+
+    @Test
+    public void findPredicate() {
+        List<String> keywords = List.of("yu", "ZOE", "Smith");
+        Predicate<Person> splitting = person -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        NameContainsKeywordsPredicate cached = new NameContainsKeywordsPredicate(keywords);
+
+        Measurement before = measure(() -> persons.stream().filter(splitting).count());
+        Measurement after = measure(() -> persons.stream().filter(cached).count());
+        report("find predicate", before, after);
+        assertTrue(after.allocatedBytes < before.allocatedBytes);
+    }
+
+    @Test
+    public void sortByName() {
+        Collator collator = Collator.getInstance();
+        Comparator<Person> collating = Comparator.comparing(person -> person.getName().fullName, collator);
+
+        Measurement before = measure(() -> new ArrayList<>(persons).sort(collating));
+        Measurement after = measure(() -> new ArrayList<>(persons).sort(new PersonNameComparator(true, persons)));
+        report("sort by name", before, after);
+        assertTrue(after.allocatedBytes < before.allocatedBytes);
+    }
+
+    /**
+     * Runs {@code task} once to warm up, then again while measuring it on the current thread.
+     */
+    private Measurement measure(Runnable task) {
+        task.run();
+        long startBytes = threads.getCurrentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        task.run();
+        long nanos = System.nanoTime() - startNanos;
+        return new Measurement(nanos / 1_000_000, threads.getCurrentThreadAllocatedBytes() - startBytes);
+    }
+
+    private static void report(String name, Measurement before, Measurement after) {
+        System.out.printf("%s over %d persons: %d ms and %d KB allocated before, %d ms and %d KB after%n", name,
+                PERSON_COUNT, before.millis, before.allocatedBytes / 1024, after.millis, after.allocatedBytes / 1024);
+    }
+
+    private static class Measurement {
+        private final long millis;
+        private final long allocatedBytes;
+
+        Measurement(long millis, long allocatedBytes) {
+            this.millis = millis;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +78,30 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_manyPersons_nameNotSplitOrLowerCased() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Person[] persons = new Person[1000];
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = new PersonBuilder().withName("Alice Bob " + i).build();
+        }
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bOB", "Carol"));
+        int rounds = 10;
+        testAll(predicate, persons);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int matches = 0;
+        for (int round = 0; round < rounds; round++) {
+            matches += testAll(predicate, persons);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Splitting or lower-casing a name allocates several objects, far more than a byte per test on average
+        assertEquals(rounds * persons.length, matches);
+        assertTrue(allocated < rounds * persons.length, "Allocated " + allocated + " bytes");
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -82,4 +110,14 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    private static int testAll(NameContainsKeywordsPredicate predicate, Person[] persons) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
 }
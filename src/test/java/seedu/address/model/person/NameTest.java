@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,18 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getWords_lowerCaseWordsInOrder() {
+        assertEquals(List.of("david", "roger", "2nd"), new Name("David  ROGER 2nd ").getWords());
+    }
+
+    @Test
+    public void containsWord() {
+        Name name = new Name("Alex Yeoh");
+        assertTrue(name.containsWord(Name.normalizeWord(" ALEX ")));
+        assertTrue(name.containsWord("yeoh"));
+        assertFalse(name.containsWord("Yeoh")); // not normalized
+        assertFalse(name.containsWord("ale")); // not a whole word
+    }
 }
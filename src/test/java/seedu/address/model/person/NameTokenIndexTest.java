@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_keywordsInAnyCase_unionOfMatchingNames() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(new PersonBuilder().withName("Pauline Tan").build());
+
+        assertEquals(Set.of(ALICE.getName(), new Name("Pauline Tan")), index.find(List.of("pAULINE")));
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), index.find(List.of("alice", "MEIER", "bob")));
+        assertEquals(Set.of(), index.find(List.of("Pau", "")));
+        assertEquals(Set.of(), index.find(List.of()));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        Person pauline = new PersonBuilder().withName("Pauline Tan").build();
+        index.add(ALICE);
+        index.add(pauline);
+        index.remove(ALICE);
+        assertEquals(Set.of(pauline.getName()), index.find(List.of("Alice", "Pauline")));
+
+        index.remove(BENSON); // not in the index
+        index.clear();
+        assertEquals(Set.of(), index.find(List.of("Pauline", "Tan")));
+    }
+
+    @Test
+    public void find_typicalPersons_sameAsNameContainsKeywordsPredicate() {
+        getTypicalPersons().forEach(index::add);
+        for (List<String> keywords : List.of(List.of("Kurz", "Elle", "Kunz"), List.of("meier"), List.of("ALICE"),
+                List.of("Carl", "Kurz"), List.of("Alic", "Paulin"), List.of("12345"))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Name> expected = getTypicalPersons().stream().filter(predicate)
+                    .map(Person::getName).collect(Collectors.toSet());
+            assertEquals(expected, index.find(keywords));
+        }
+    }
+
+    @Test
+    public void search_prefixesAndTypos_rankedByMatchQuality() {
+        Person alexander = new PersonBuilder().withName("Alexander Tan").build();
+        Person alex = new PersonBuilder().withName("Alex Lim").build();
+        Person alxe = new PersonBuilder().withName("Alxe Ong").build();
+        List.of(alexander, alex, alxe, ALICE, BENSON).forEach(index::add);
+
+        // whole word, then prefix, then a swap of adjacent letters
+        assertEquals(List.of(alex.getName(), alexander.getName(), alxe.getName()), index.search(List.of("ALEX")));
+        // one typo each: deletion, insertion and substitution
+        assertEquals(List.of(ALICE.getName()), index.search(List.of("pauine")));
+        assertEquals(List.of(BENSON.getName()), index.search(List.of("bensson")));
+        assertEquals(List.of(BENSON.getName()), index.search(List.of("meler")));
+        // scores add up across keywords
+        assertEquals(List.of(alexander.getName(), alex.getName(), alxe.getName()),
+                index.search(List.of("alex", "tan")));
+        // short keywords are not matched with typos
+        assertEquals(List.of(), index.search(List.of("lem", "")));
+    }
+
+    @Test
+    public void search_removedWords_notMatched() {
+        index.add(ALICE);
+        index.remove(ALICE);
+        assertEquals(List.of(), index.search(List.of("alice", "alic", "alcie")));
+    }
+
+    @Test
+    public void isOneTypoApart() {
+        assertTrue(NameTokenIndex.isOneTypoApart("alice", "alce"));
+        assertTrue(NameTokenIndex.isOneTypoApart("alce", "alice"));
+        assertTrue(NameTokenIndex.isOneTypoApart("alice", "aliqe"));
+        assertTrue(NameTokenIndex.isOneTypoApart("alice", "laice"));
+        assertTrue(NameTokenIndex.isOneTypoApart("alice", "alicea"));
+
+        assertFalse(NameTokenIndex.isOneTypoApart("alice", "alice"));
+        assertFalse(NameTokenIndex.isOneTypoApart("alice", "ali"));
+        assertFalse(NameTokenIndex.isOneTypoApart("alice", "aclie"));
+        assertFalse(NameTokenIndex.isOneTypoApart("alice", "blicf"));
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class OccurrenceIndexTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void between_day_occurrencesOrderedByStart() {
+        Person weekly = new PersonBuilder().withName("Amy")
+                .withSession("WEEKLY:MON-0900-1000-TUE-0900-1000", CLOCK).build();
+        Person monthly = new PersonBuilder().withName("Bob").withSession("MONTHLY:5 08:00", CLOCK).build();
+        Person oneOff = new PersonBuilder().withName("Cara").withSession("2099-01-05 12:00", CLOCK).build();
+        OccurrenceIndex index = indexOf(weekly, monthly, oneOff);
+
+        // Monday, 5 January 2099
+        LocalDateTime day = LocalDateTime.of(2099, 1, 5, 0, 0);
+        assertEquals(List.of(new SessionOccurrence(monthly, day.withHour(8), day.withHour(8)),
+                new SessionOccurrence(weekly, day.withHour(9), day.withHour(10)),
+                new SessionOccurrence(oneOff, day.withHour(12), day.withHour(12))),
+                index.between(day, day.plusDays(1)));
+    }
+
+    @Test
+    public void between_monthlyOnLateDay_lastDayOfShortMonth() {
+        Person monthly = new PersonBuilder().withName("Amy").withSession("MONTHLY:31 10:00", CLOCK).build();
+        OccurrenceIndex index = indexOf(monthly);
+
+        LocalDateTime february = LocalDateTime.of(2099, 2, 1, 0, 0);
+        assertEquals(List.of(LocalDateTime.of(2099, 2, 28, 10, 0)),
+                starts(index.between(february, february.plusMonths(1))));
+        assertTrue(index.between(february, LocalDateTime.of(2099, 2, 28, 10, 0)).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerListed() {
+        Person weekly = new PersonBuilder().withName("Amy").withSession("WEEKLY:MON-0900-1000", CLOCK).build();
+        Person biweekly = new PersonBuilder().withName("Bob").withSession("BIWEEKLY:MON-1100-1200", CLOCK).build();
+        Person monthly = new PersonBuilder().withName("Cara").withSession("MONTHLY:5 08:00", CLOCK).build();
+        Person oneOff = new PersonBuilder().withName("Dan").withSession("2099-01-05 12:00", CLOCK).build();
+        OccurrenceIndex index = indexOf(weekly, biweekly, monthly, oneOff);
+        LocalDateTime from = LocalDateTime.of(2099, 1, 1, 0, 0);
+
+        index.remove(weekly);
+        index.remove(monthly);
+        index.remove(oneOff);
+        index.remove(oneOff);
+        assertEquals(List.of(biweekly), index.between(from, from.plusMonths(1)).stream()
+                .map(SessionOccurrence::getPerson).distinct().collect(Collectors.toList()));
+
+        index.clear();
+        assertTrue(index.between(from, from.plusMonths(1)).isEmpty());
+    }
+
+    @Test
+    public void between_randomSessionsAndRanges_matchesExpandedOccurrences() {
+        Random random = new Random(19);
+        String[] days = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            int hour = random.nextInt(23);
+            String session;
+            switch (random.nextInt(4)) {
+            case 0:
+                int otherHour = (hour + 1 + random.nextInt(22)) % 23;
+                session = String.format("WEEKLY:%s-%02d00-%02d30-%s-%02d00-%02d45", days[random.nextInt(7)], hour,
+                        hour, days[random.nextInt(7)], otherHour, otherHour);
+                break;
+            case 1:
+                session = String.format("BIWEEKLY:%s-%02d15-%02d45", days[random.nextInt(7)], hour, hour);
+                break;
+            case 2:
+                session = String.format("MONTHLY:%d %02d:10", 1 + random.nextInt(31), hour);
+                break;
+            default:
+                session = LocalDateTime.of(2099, 1 + random.nextInt(6), 1 + random.nextInt(28), hour, 20)
+                        .toString().replace('T', ' ');
+                break;
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withSession(session, CLOCK).build());
+        }
+        OccurrenceIndex index = indexOf(persons.toArray(new Person[0]));
+
+        for (int step = 0; step < 100; step++) {
+            LocalDateTime from = LocalDateTime.of(2099, 1, 1, 0, 0).plusMinutes(random.nextInt(60 * 24 * 120));
+            LocalDateTime to = from.plusMinutes(random.nextInt(60 * 24 * 70));
+            List<SessionOccurrence> expected = SessionOccurrences.between(persons, from, to)
+                    .sorted(Comparator.comparing(SessionOccurrence::getStart)
+                            .thenComparing(occurrence -> occurrence.getPerson().getName().fullName))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.between(from, to), from + " to " + to);
+        }
+    }
+
+    private static List<LocalDateTime> starts(List<SessionOccurrence> occurrences) {
+        return occurrences.stream().map(SessionOccurrence::getStart).collect(Collectors.toList());
+    }
+
+    private static OccurrenceIndex indexOf(Person... persons) {
+        OccurrenceIndex index = new OccurrenceIndex();
+        for (Person person : persons) {
+            index.add(person);
+        }
+        return index;
+    }
+
+}
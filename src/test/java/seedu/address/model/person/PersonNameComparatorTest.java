@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonNameComparatorTest {
+
+    private final Person alex = new PersonBuilder().withName("alex yeoh").build();
+    private final Person bernice = new PersonBuilder().withName("Bernice Yu").build();
+    private final Person charlotte = new PersonBuilder().withName("Charlotte Oliveiro").build();
+
+    @Test
+    public void compare_ascending_alphabeticalIgnoringCase() {
+        List<Person> list = Arrays.asList(charlotte, alex, bernice);
+        list.sort(new PersonNameComparator(true));
+
+        // a plain string comparison would put the lower case "alex yeoh" last
+        assertEquals(Arrays.asList(alex, bernice, charlotte), list);
+    }
+
+    @Test
+    public void compare_descending_reversed() {
+        List<Person> list = Arrays.asList(bernice, alex, charlotte);
+        list.sort(new PersonNameComparator(false));
+        assertEquals(Arrays.asList(charlotte, bernice, alex), list);
+    }
+
+    @Test
+    public void compare_personsNotSortedUpFront_keysComputedOnDemand() {
+        PersonNameComparator comparator = new PersonNameComparator(true, List.of(bernice, charlotte));
+        Person renamed = new PersonBuilder(charlotte).withName("adam").build();
+        List<Person> list = Arrays.asList(charlotte, renamed, bernice, alex);
+        list.sort(comparator);
+        assertEquals(Arrays.asList(renamed, alex, bernice, charlotte), list);
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.QueryCondition.RangeField;
+import seedu.address.model.person.Session.SessionType;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @BeforeEach
+    public void setUp() {
+        persons.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void constructor_noConditions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(List.of()));
+    }
+
+    @Test
+    public void run_tagAndAge_startsFromTag() {
+        // friends: ALICE (25), BENSON (30), DANIEL (32); aged 25 to 30: ALICE, BENSON, CARL (28), ELLE (26)
+        QueryCondition friends = QueryCondition.hasTag(new Tag("friends"));
+        PersonQuery.QueryResult result = persons.runQuery(new PersonQuery(List.of(
+                QueryCondition.inRange(RangeField.AGE, 25, 30), friends)));
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), result.getMatches());
+        assertEquals(friends, result.getStartingCondition());
+        assertEquals(3, result.getCandidateCount());
+    }
+
+    @Test
+    public void run_sessionTypeAndDays_startsFromDays() {
+        QueryCondition days = QueryCondition.hasSessionOn(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        PersonQuery.QueryResult result = persons.runQuery(new PersonQuery(List.of(
+                QueryCondition.hasSessionType(SessionType.WEEKLY), days)));
+        assertEquals(Set.of(ALICE.getName(), CARL.getName()), result.getMatches());
+        assertEquals(days, result.getStartingCondition());
+    }
+
+    @Test
+    public void run_openRanges_matchesBounds() {
+        // weight below 60: ELLE (55), FIONA (50); body fat from 17: ELLE (17.5)
+        PersonQuery.QueryResult result = persons.runQuery(new PersonQuery(List.of(
+                QueryCondition.inRange(RangeField.WEIGHT, Double.NEGATIVE_INFINITY, Math.nextDown(60.0)),
+                QueryCondition.inRange(RangeField.BODYFAT, 17, Double.POSITIVE_INFINITY))));
+        assertEquals(Set.of(ELLE.getName()), result.getMatches());
+    }
+
+    @Test
+    public void run_noCandidates_emptyResult() {
+        PersonQuery.QueryResult result = persons.runQuery(new PersonQuery(List.of(
+                QueryCondition.nameHasAnyWord(List.of("alice")), QueryCondition.isPaid(false))));
+        assertEquals(Set.of(), result.getMatches());
+        assertEquals(0, result.getCandidateCount());
+    }
+
+    @Test
+    public void run_afterChanges_tracksCurrentPersons() {
+        QueryCondition unpaid = QueryCondition.isPaid(false);
+        Person unpaidAlice = new PersonBuilder(ALICE).withPaid("false").build();
+        persons.setPerson(ALICE, unpaidAlice);
+        assertEquals(Set.of(ALICE.getName()), persons.runQuery(new PersonQuery(List.of(unpaid))).getMatches());
+
+        persons.remove(unpaidAlice);
+        assertEquals(Set.of(), persons.runQuery(new PersonQuery(List.of(unpaid))).getMatches());
+    }
+
+    @Test
+    public void run_randomQueries_sameAsTestingEveryPerson() {
+        Random random = new Random(22);
+        List<Person> randomPersons = new ArrayList<>();
+        String[] types = {"WEEKLY:%s-%02d00-%02d30", "BIWEEKLY:%s-%02d00-%02d30"};
+        String[] days = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+        for (int i = 0; i < 150; i++) {
+            int hour = i / 7;
+            String session = i % 10 == 9
+                    ? "MONTHLY:" + (1 + random.nextInt(28)) + " " + String.format("%02d:50", hour)
+                    : String.format(types[random.nextInt(2)], days[i % 7], hour, hour);
+            randomPersons.add(new PersonBuilder().withName("Person " + i)
+                    .withAge(String.valueOf(18 + random.nextInt(50)))
+                    .withHeight(String.valueOf(150 + random.nextInt(50)))
+                    .withWeight(String.format("%d.%02d", 45 + random.nextInt(60), random.nextInt(100)))
+                    .withBodyfat(String.format("%d.%d", 10 + random.nextInt(30), random.nextInt(10)))
+                    .withPaid(String.valueOf(random.nextBoolean()))
+                    .withDeadline(LocalDate.of(2099, 1, 1).plusDays(random.nextInt(60)).toString())
+                    .withTags(random.nextBoolean() ? new String[] {"vip"} : new String[] {"trial", "group"})
+                    .withSession(session).build());
+        }
+        persons.setPersons(randomPersons);
+
+        for (int i = 0; i < 200; i++) {
+            List<QueryCondition> conditions = new ArrayList<>();
+            int conditionCount = 1 + random.nextInt(4);
+            for (int j = 0; j < conditionCount; j++) {
+                conditions.add(randomCondition(random));
+            }
+            PersonQuery query = new PersonQuery(conditions);
+            Set<Name> expected = randomPersons.stream()
+                    .filter(person -> conditions.stream().allMatch(condition -> condition.test(person)))
+                    .map(Person::getName)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, persons.runQuery(query).getMatches(), query.toString());
+        }
+    }
+
+    private static QueryCondition randomCondition(Random random) {
+        switch (random.nextInt(6)) {
+        case 0:
+            return QueryCondition.hasTag(new Tag(random.nextBoolean() ? "vip" : "group"));
+        case 1:
+            return QueryCondition.isPaid(random.nextBoolean());
+        case 2:
+            return QueryCondition.hasSessionType(SessionType.values()[random.nextInt(SessionType.values().length)]);
+        case 3:
+            return QueryCondition.hasSessionOn(EnumSet.of(DayOfWeek.of(1 + random.nextInt(7)),
+                    DayOfWeek.of(1 + random.nextInt(7))));
+        case 4:
+            return QueryCondition.nameHasAnyWord(List.of(String.valueOf(random.nextInt(150)), "person"));
+        default:
+            RangeField field = RangeField.values()[random.nextInt(RangeField.values().length)];
+            double low = field == RangeField.DEADLINE ? LocalDate.of(2099, 1, 1).toEpochDay() : 0;
+            double min = low + random.nextInt(field == RangeField.DEADLINE ? 60 : 150);
+            return QueryCondition.inRange(field, min, min + random.nextInt(40) + random.nextInt(100) / 100.0);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.MovableClock;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -37,18 +38,16 @@ public class PersonSessionComparatorTest {
 
     @Test
     public void compare_personWithoutUpcomingSession_sortsAfterUpcoming() {
-        MutableClock mutableClock = new MutableClock(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
-        Session expiredSession = Session.fromString("2099-01-05 12:00", mutableClock);
-        // Advance the clock so that the one-off session is now in the past
-        mutableClock.setInstant(Instant.parse("2100-01-01T00:00:00Z"));
-
-        Clock futureClock = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
-        Session upcomingSession = Session.fromString("2099-02-01 12:00", futureClock);
+        Clock pastClock = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
+        Session expiredSession = Session.fromString("2099-01-05 12:00", pastClock);
+        Session upcomingSession = Session.fromString("2099-02-01 12:00", pastClock);
 
         Person noUpcoming = buildPersonWithSession("Cara", expiredSession);
         Person upcoming = buildPersonWithSession("Dan", upcomingSession);
 
-        PersonSessionComparator comparator = new PersonSessionComparator();
+        // The one-off session of Cara is in the past at the reference time of the comparator
+        Clock referenceClock = Clock.fixed(Instant.parse("2099-01-10T00:00:00Z"), ZONE);
+        PersonSessionComparator comparator = new PersonSessionComparator(new SessionSortKeys(referenceClock));
 
         assertTrue(comparator.compare(noUpcoming, upcoming) > 0);
         assertTrue(comparator.compare(upcoming, noUpcoming) < 0);
@@ -56,18 +55,29 @@ public class PersonSessionComparatorTest {
 
     @Test
     public void compare_bothWithoutUpcomingSessions_equal() {
-        MutableClock clockA = new MutableClock(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
-        Session pastSessionA = Session.fromString("2099-01-05 08:00", clockA);
-        clockA.setInstant(Instant.parse("2100-01-01T00:00:00Z"));
-
-        MutableClock clockB = new MutableClock(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
-        Session pastSessionB = Session.fromString("2099-01-06 08:00", clockB);
-        clockB.setInstant(Instant.parse("2100-01-01T00:00:00Z"));
+        Clock pastClock = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
+        Session pastSessionA = Session.fromString("2099-01-05 08:00", pastClock);
+        Session pastSessionB = Session.fromString("2099-01-06 08:00", pastClock);
 
         Person first = buildPersonWithSession("Eve", pastSessionA);
         Person second = buildPersonWithSession("Finn", pastSessionB);
 
-        assertEquals(0, new PersonSessionComparator().compare(first, second));
+        Clock referenceClock = Clock.fixed(Instant.parse("2100-01-01T00:00:00Z"), ZONE);
+        assertEquals(0, new PersonSessionComparator(new SessionSortKeys(referenceClock)).compare(first, second));
+    }
+
+    @Test
+    public void compare_clockTicksDuringSort_usesReferenceTime() {
+        MovableClock clock = new MovableClock(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
+        Person first = buildPersonWithSession("Ivy", Session.fromString("2099-01-01 10:00", clock));
+        Person second = buildPersonWithSession("Jon", Session.fromString("2099-01-02 10:00", clock));
+        PersonSessionComparator comparator = new PersonSessionComparator(new SessionSortKeys(clock));
+        assertTrue(comparator.compare(first, second) < 0);
+
+        // Ivy's session has passed, but the keys are still relative to the reference time
+        clock.setInstant(Instant.parse("2099-01-01T12:00:00Z"));
+        assertTrue(comparator.compare(first, second) < 0);
+        assertTrue(comparator.compare(second, first) > 0);
     }
 
     @Test
@@ -104,33 +114,4 @@ public class PersonSessionComparatorTest {
             }
         };
     }
-
-    private static class MutableClock extends Clock {
-        private Instant instant;
-        private final ZoneId zone;
-
-        private MutableClock(Instant instant, ZoneId zone) {
-            this.instant = instant;
-            this.zone = zone;
-        }
-
-        void setInstant(Instant instant) {
-            this.instant = instant;
-        }
-
-        @Override
-        public ZoneId getZone() {
-            return zone;
-        }
-
-        @Override
-        public Clock withZone(ZoneId zone) {
-            return new MutableClock(instant, zone);
-        }
-
-        @Override
-        public Instant instant() {
-            return instant;
-        }
-    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleIndexTest {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private static Person person(String name, String session) {
+        return new PersonBuilder().withName(name).withSession(session).build();
+    }
+
+    private static String time(int halfHours) {
+        return String.format("%02d%02d", halfHours / 2, halfHours % 2 * 30);
+    }
+
+    private static String clockTime(int halfHours) {
+        return String.format("%02d:%02d", halfHours / 2, halfHours % 2 * 30);
+    }
+
+    /**
+     * Returns a random session whose times fall within a few hours, so that many of them conflict.
+     */
+    private static String randomSession(Random random) {
+        int start = 16 + random.nextInt(8);
+        switch (random.nextInt(4)) {
+        case 0:
+            LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(60));
+            return date + " " + clockTime(start);
+        case 1:
+            return "MONTHLY:" + (1 + random.nextInt(31)) + " " + clockTime(start);
+        default:
+            String type = random.nextBoolean() ? "WEEKLY" : "BIWEEKLY";
+            String day = DAYS[random.nextInt(DAYS.length)];
+            String slot = day + "-" + time(start) + "-" + time(start + 1 + random.nextInt(4));
+            return type + ":" + slot;
+        }
+    }
+
+    private static boolean conflictsWithAny(List<Person> persons, Person toCheck, Person toIgnore) {
+        return persons.stream()
+                .filter(existing -> !existing.equals(toIgnore))
+                .anyMatch(existing -> existing.getSession().conflictsWith(toCheck.getSession()));
+    }
+
+    @Test
+    public void findConflict_weeklySlots() {
+        ScheduleIndex index = new ScheduleIndex();
+        Person morning = person("Alice", "WEEKLY:MON-0900-1000");
+        Person evening = person("Bob", "BIWEEKLY:MON-1800-1900-WED-1800-1900");
+        index.add(morning);
+        index.add(evening);
+
+        assertEquals(morning, index.findConflict(Session.fromString("WEEKLY:MON-0930-1100"), null).get());
+        assertEquals(evening, index.findConflict(Session.fromString("WEEKLY:WED-1700-1801"), null).get());
+        assertFalse(index.findConflict(Session.fromString("WEEKLY:MON-1000-1800"), null).isPresent());
+        assertFalse(index.findConflict(Session.fromString("WEEKLY:TUE-0900-1000"), null).isPresent());
+
+        // A query spanning both slots still finds the slot behind an ignored one
+        assertEquals(evening, index.findConflict(Session.fromString("WEEKLY:MON-0800-2000"), morning).get());
+
+        index.remove(morning);
+        assertFalse(index.findConflict(Session.fromString("WEEKLY:MON-0930-1100"), null).isPresent());
+    }
+
+    @Test
+    public void findConflict_oneOffAndMonthly() {
+        LocalDate nextMonday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY);
+        ScheduleIndex index = new ScheduleIndex();
+        Person oneOff = person("Alice", nextMonday + " 09:30");
+        Person monthly = person("Bob", "MONTHLY:" + nextMonday.getDayOfMonth() + " 18:00");
+        index.add(oneOff);
+        index.add(monthly);
+
+        assertEquals(oneOff, index.findConflict(Session.fromString("WEEKLY:MON-0900-1000"), null).get());
+        assertEquals(oneOff, index.findConflict(Session.fromString(
+                "MONTHLY:" + nextMonday.getDayOfMonth() + " 09:30"), null).get());
+        assertEquals(monthly, index.findConflict(Session.fromString(nextMonday + " 18:00"), null).get());
+        assertFalse(index.findConflict(Session.fromString(nextMonday + " 18:30"), null).isPresent());
+        assertFalse(index.findConflict(Session.fromString(nextMonday + " 09:30"), oneOff).isPresent());
+    }
+
+    @Test
+    public void findConflict_randomSessions_matchesPairwiseCheck() {
+        Random random = new Random(11);
+        ScheduleIndex index = new ScheduleIndex();
+        List<Person> indexed = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            Person candidate = person("Client " + i, randomSession(random));
+            Person toIgnore = indexed.isEmpty() || random.nextBoolean()
+                    ? null
+                    : indexed.get(random.nextInt(indexed.size()));
+
+            boolean expected = conflictsWithAny(indexed, candidate, toIgnore);
+            assertEquals(expected, index.findConflict(candidate.getSession(), toIgnore).isPresent(),
+                    candidate.getSession() + " ignoring " + toIgnore);
+
+            if (!conflictsWithAny(indexed, candidate, null)) {
+                index.add(candidate);
+                indexed.add(candidate);
+            } else if (toIgnore != null && !expected && random.nextBoolean()) {
+                // Replace the ignored person, as an edit would
+                index.remove(toIgnore);
+                indexed.remove(toIgnore);
+                index.add(candidate);
+                indexed.add(candidate);
+            }
+        }
+        assertTrue(indexed.size() > 20);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SessionConflictValidatorTest {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private static Person person(String name, String session) {
+        return new PersonBuilder().withName(name).withSession(session).build();
+    }
+
+    private static String randomSession(Random random) {
+        int hour = 16 + random.nextInt(4);
+        switch (random.nextInt(4)) {
+        case 0:
+            return LocalDate.now().plusDays(1 + random.nextInt(60)) + " " + hour + ":00";
+        case 1:
+            return "MONTHLY:" + (1 + random.nextInt(31)) + " " + hour + ":30";
+        default:
+            String type = random.nextBoolean() ? "WEEKLY" : "BIWEEKLY";
+            String day = DAYS[random.nextInt(DAYS.length)];
+            return type + ":" + day + "-" + hour + "00-" + (hour + 1 + random.nextInt(3)) + "00";
+        }
+    }
+
+    @Test
+    public void findConflicts_noConflicts_emptyList() {
+        List<Person> persons = List.of(
+                person("Amy", "WEEKLY:MON-0900-1000"),
+                person("Bob", "WEEKLY:MON-1000-1100"),
+                person("Cal", "MONTHLY:15 11:30"));
+        assertTrue(SessionConflictValidator.findConflicts(persons).isEmpty());
+        assertFalse(SessionConflictValidator.hasConflicts(persons));
+    }
+
+    @Test
+    public void findConflicts_overlappingSessions_everyPairReturned() {
+        Person amy = person("Amy", "WEEKLY:MON-0900-1000");
+        Person bob = person("Bob", "WEEKLY:TUE-0900-1000");
+        Person cal = person("Cal", "BIWEEKLY:MON-0930-1030-TUE-0800-0900");
+        Person dan = person("Dan", "MONTHLY:15 09:45");
+        List<SessionConflict> expected = List.of(
+                new SessionConflict(0, amy, 2, cal),
+                new SessionConflict(0, amy, 3, dan),
+                new SessionConflict(1, bob, 3, dan),
+                new SessionConflict(2, cal, 3, dan));
+        assertEquals(expected, SessionConflictValidator.findConflicts(List.of(amy, bob, cal, dan)));
+    }
+
+    @Test
+    public void findConflicts_randomSessions_matchesPairwiseCheck() {
+        Random random = new Random(12);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            persons.add(person("Client " + i, randomSession(random)));
+        }
+
+        List<SessionConflict> expected = new ArrayList<>();
+        for (int i = 0; i < persons.size() - 1; i++) {
+            for (int j = i + 1; j < persons.size(); j++) {
+                if (persons.get(i).getSession().conflictsWith(persons.get(j).getSession())) {
+                    expected.add(new SessionConflict(i, persons.get(i), j, persons.get(j)));
+                }
+            }
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, SessionConflictValidator.findConflicts(persons));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class SessionOccurrencesTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    // Thursday, 1 January 2099
+    private static final LocalDateTime FROM = LocalDateTime.of(2099, 1, 1, 9, 30);
+
+    @Test
+    public void of_weeklyMultiSlot_orderedAcrossSlots() {
+        Person person = new PersonBuilder().withName("Amy")
+                .withSession("WEEKLY:MON-1800-1900-THU-0900-1000-THU-1200-1300", CLOCK).build();
+
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 1, 12, 0), LocalDateTime.of(2099, 1, 5, 18, 0),
+                LocalDateTime.of(2099, 1, 8, 9, 0), LocalDateTime.of(2099, 1, 8, 12, 0)),
+                starts(SessionOccurrences.of(person, FROM).limit(4).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void of_weeklySlot_endsWithSlot() {
+        Person person = new PersonBuilder().withName("Amy").withSession("WEEKLY:FRI-1800-1930", CLOCK).build();
+        SessionOccurrence occurrence = SessionOccurrences.of(person, FROM).findFirst().get();
+
+        assertEquals(new SessionOccurrence(person, LocalDateTime.of(2099, 1, 2, 18, 0),
+                LocalDateTime.of(2099, 1, 2, 19, 30)), occurrence);
+    }
+
+    @Test
+    public void of_biweeklySlot_twoWeeksApart() {
+        Person person = new PersonBuilder().withName("Amy").withSession("BIWEEKLY:THU-0900-1000", CLOCK).build();
+
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 15, 9, 0), LocalDateTime.of(2099, 1, 29, 9, 0)),
+                starts(SessionOccurrences.of(person, FROM).limit(2).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void of_monthlyOnLateDay_lastDayOfShortMonths() {
+        Person person = new PersonBuilder().withName("Amy").withSession("MONTHLY:31 10:00", CLOCK).build();
+
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 31, 10, 0), LocalDateTime.of(2099, 2, 28, 10, 0),
+                LocalDateTime.of(2099, 3, 31, 10, 0), LocalDateTime.of(2099, 4, 30, 10, 0)),
+                starts(SessionOccurrences.of(person, FROM).limit(4).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void of_oneOff_onlyIfNotBeforeFrom() {
+        Person person = new PersonBuilder().withName("Amy").withSession("2099-01-01 09:30", CLOCK).build();
+
+        assertEquals(1, SessionOccurrences.of(person, FROM).count());
+        assertEquals(0, SessionOccurrences.of(person, FROM.plusMinutes(1)).count());
+    }
+
+    @Test
+    public void of_persons_mergedByStartThenPersonOrder() {
+        Person weekly = new PersonBuilder().withName("Amy").withSession("WEEKLY:FRI-1000-1100", CLOCK).build();
+        Person monthly = new PersonBuilder().withName("Bob").withSession("MONTHLY:2 10:00", CLOCK).build();
+        Person oneOff = new PersonBuilder().withName("Cara").withSession("2099-01-01 18:00", CLOCK).build();
+
+        List<SessionOccurrence> occurrences = SessionOccurrences.of(List.of(weekly, monthly, oneOff), FROM)
+                .limit(4).collect(Collectors.toList());
+
+        assertEquals(List.of(oneOff, weekly, monthly, weekly),
+                occurrences.stream().map(SessionOccurrence::getPerson).collect(Collectors.toList()));
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 1, 18, 0), LocalDateTime.of(2099, 1, 2, 10, 0),
+                LocalDateTime.of(2099, 1, 2, 10, 0), LocalDateTime.of(2099, 1, 9, 10, 0)), starts(occurrences));
+    }
+
+    @Test
+    public void between_march_countsSessionsInRange() {
+        List<Person> persons = List.of(
+                new PersonBuilder().withName("Amy").withSession("WEEKLY:MON-0900-1000-WED-0900-1000", CLOCK).build(),
+                new PersonBuilder().withName("Bob").withSession("MONTHLY:15 10:00", CLOCK).build(),
+                new PersonBuilder().withName("Cara").withSession("2099-03-31 23:59", CLOCK).build(),
+                new PersonBuilder().withName("Dan").withSession("2099-04-01 00:00", CLOCK).build());
+        LocalDateTime march = LocalDateTime.of(2099, 3, 1, 0, 0);
+
+        // March 2099 has 5 Mondays and 4 Wednesdays
+        assertEquals(5 + 4 + 1 + 1, SessionOccurrences.count(persons, march, march.plusMonths(1)));
+        assertTrue(SessionOccurrences.between(persons, march, march.plusMonths(1))
+                .allMatch(occurrence -> occurrence.getStart().getMonthValue() == 3));
+    }
+
+    @Test
+    public void of_randomSessions_matchesNextOccurrenceAndIsOrdered() {
+        Random random = new Random(18);
+        String[] days = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            int hour = random.nextInt(23);
+            String session;
+            switch (random.nextInt(3)) {
+            case 0:
+                session = String.format("WEEKLY:%s-%02d00-%02d30", days[random.nextInt(7)], hour, hour);
+                break;
+            case 1:
+                session = String.format("BIWEEKLY:%s-%02d15-%02d45", days[random.nextInt(7)], hour, hour);
+                break;
+            default:
+                session = String.format("MONTHLY:%d %02d:10", 1 + random.nextInt(31), hour);
+                break;
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withSession(session, CLOCK).build());
+        }
+
+        for (int step = 0; step < 50; step++) {
+            LocalDateTime from = FROM.plusMinutes(random.nextInt(60 * 24 * 90));
+            for (Person person : persons) {
+                LocalDateTime first = SessionOccurrences.of(person, from).findFirst().get().getStart();
+                assertEquals(person.getSession().getNextOccurrence(from).get(), first,
+                        person.getSession() + " from " + from);
+            }
+            List<LocalDateTime> merged = starts(SessionOccurrences.of(persons, from).limit(200)
+                    .collect(Collectors.toList()));
+            List<LocalDateTime> sorted = new ArrayList<>(merged);
+            sorted.sort(Comparator.naturalOrder());
+            assertEquals(sorted, merged);
+        }
+    }
+
+    private static List<LocalDateTime> starts(List<SessionOccurrence> occurrences) {
+        return occurrences.stream().map(SessionOccurrence::getStart).collect(Collectors.toList());
+    }
+
+}
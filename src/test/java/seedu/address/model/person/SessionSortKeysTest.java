@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MovableClock;
+import seedu.address.testutil.PersonBuilder;
+
+public class SessionSortKeysTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    @Test
+    public void getKey_upcomingSession_nextOccurrenceInEpochSeconds() {
+        MovableClock clock = new MovableClock(Instant.parse("2099-01-01T00:00:00Z"));
+        SessionSortKeys sortKeys = new SessionSortKeys(clock);
+        Person person = new PersonBuilder().withSession("MONTHLY:15 10:00").build();
+
+        assertEquals(LocalDateTime.of(2099, 1, 15, 10, 0).toEpochSecond(ZoneOffset.UTC), sortKeys.getKey(person));
+    }
+
+    @Test
+    public void getKey_noUpcomingSession_noOccurrence() {
+        Clock pastClock = Clock.fixed(Instant.parse("2099-01-01T00:00:00Z"), ZONE);
+        Person person = new PersonBuilder().withSession("2099-01-05 12:00", pastClock).build();
+        SessionSortKeys sortKeys = new SessionSortKeys(new MovableClock(Instant.parse("2099-02-01T00:00:00Z")));
+
+        assertEquals(SessionSortKeys.NO_OCCURRENCE, sortKeys.getKey(person));
+    }
+
+    @Test
+    public void getKey_clockMovedOn_keysRelativeToReferenceTime() {
+        MovableClock clock = new MovableClock(Instant.parse("2099-01-01T00:00:00Z"));
+        Person sorted = new PersonBuilder().withSession("2099-01-01 10:00", clock).build();
+        Person addedLater = new PersonBuilder().withSession("WEEKLY:THU-0900-1000", clock).build();
+        SessionSortKeys sortKeys = new SessionSortKeys(List.of(sorted), clock);
+
+        // Both sessions of 1 Jan have passed, but the keys are still relative to the time of the sort
+        clock.setInstant(Instant.parse("2099-01-01T10:30:00Z"));
+        assertEquals(LocalDateTime.of(2099, 1, 1, 10, 0).toEpochSecond(ZoneOffset.UTC), sortKeys.getKey(sorted));
+        assertEquals(LocalDateTime.of(2099, 1, 1, 9, 0).toEpochSecond(ZoneOffset.UTC), sortKeys.getKey(addedLater));
+
+        // Sorting again computes the keys against the time of that sort
+        SessionSortKeys laterSortKeys = new SessionSortKeys(List.of(sorted, addedLater), clock);
+        assertEquals(SessionSortKeys.NO_OCCURRENCE, laterSortKeys.getKey(sorted));
+        assertEquals(LocalDateTime.of(2099, 1, 8, 9, 0).toEpochSecond(ZoneOffset.UTC),
+                laterSortKeys.getKey(addedLater));
+    }
+
+}
@@ -5,8 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Clock;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -93,4 +98,58 @@ public class SessionTest {
         Session otherWeekly = Session.fromString("WEEKLY:TUE-1000-1100");
         assertFalse(weekly.conflictsWith(otherWeekly));
     }
+
+    @Test
+    public void conflictsWith_monthlyAndWeekly_matchesMonthByMonthCheck() {
+        List<LocalDate> todays = List.of(LocalDate.of(2026, 10, 18), LocalDate.of(2027, 2, 1),
+                LocalDate.of(2028, 1, 31), LocalDate.of(2030, 12, 15));
+        for (LocalDate today : todays) {
+            Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                String dayName = day.name().substring(0, 3);
+                Session weekly = Session.fromString("WEEKLY:" + dayName + "-0900-1000", clock);
+                for (int dayOfMonth = 1; dayOfMonth <= 31; dayOfMonth++) {
+                    for (String time : new String[] {"08:59", "09:00", "09:59", "10:00"}) {
+                        Session monthly = Session.fromString("MONTHLY:" + dayOfMonth + " " + time, clock);
+                        boolean expected = fallsOn(today, dayOfMonth, 24, day)
+                                && !time.equals("08:59") && !time.equals("10:00");
+                        assertEquals(expected, monthly.conflictsWith(weekly), monthly + " and " + weekly);
+                        assertEquals(expected, weekly.conflictsWith(monthly), weekly + " and " + monthly);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void weekdayMask_shortHorizons_matchesMonthByMonthCheck() {
+        for (LocalDate today = LocalDate.of(2027, 11, 1); today.isBefore(LocalDate.of(2028, 4, 1));
+                today = today.plusMonths(1)) {
+            Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+            for (int months = 1; months <= 24; months++) {
+                for (int dayOfMonth = 1; dayOfMonth <= 31; dayOfMonth++) {
+                    int mask = MonthlyWeekdayTable.weekdayMask(clock, dayOfMonth, months);
+                    for (DayOfWeek day : DayOfWeek.values()) {
+                        assertEquals(fallsOn(today, dayOfMonth, months, day),
+                                (mask & MonthlyWeekdayTable.bit(day)) != 0);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code dayOfMonth} falls on {@code day} in any of the {@code months} months starting from the
+     * month of {@code today}, checking one month at a time.
+     */
+    private static boolean fallsOn(LocalDate today, int dayOfMonth, int months, DayOfWeek day) {
+        YearMonth start = YearMonth.from(today);
+        for (int i = 0; i < months; i++) {
+            YearMonth current = start.plusMonths(i);
+            if (dayOfMonth <= current.lengthOfMonth() && current.atDay(dayOfMonth).getDayOfWeek() == day) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagBitmapIndexTest {
+
+    private static final Tag VIP = new Tag("vip");
+    private static final Tag GROUP = new Tag("group");
+    private static final Tag TRIAL = new Tag("trial");
+
+    private final TagBitmapIndex index = new TagBitmapIndex();
+
+    private final Person vip = new PersonBuilder().withName("Vip").withTags("vip").build();
+    private final Person vipGroup = new PersonBuilder().withName("Vip Group").withTags("vip", "group").build();
+    private final Person trial = new PersonBuilder().withName("Trial").withTags("trial").build();
+    private final Person untagged = new PersonBuilder().withName("Untagged").withTags().build();
+
+    @Test
+    public void find_andOrNot_bitOperations() {
+        List.of(vip, vipGroup, trial, untagged).forEach(index::add);
+        assertEquals(3, index.getTagCount());
+
+        assertEquals(names(vip, vipGroup), index.find(TagFilter.of(VIP)));
+        assertEquals(names(vipGroup), index.find(new TagFilter(Set.of(VIP, GROUP), List.of(), Set.of())));
+        assertEquals(names(vipGroup, trial), index.find(new TagFilter(Set.of(), List.of(Set.of(GROUP, TRIAL)),
+                Set.of())));
+        assertEquals(names(vip, untagged), index.find(new TagFilter(Set.of(), List.of(), Set.of(GROUP, TRIAL))));
+        assertEquals(names(), index.find(TagFilter.of(new Tag("unknown"))));
+        assertEquals(2, index.count(new TagFilter(Set.of(), List.of(Set.of(VIP)), Set.of(TRIAL))));
+    }
+
+    @Test
+    public void remove_person_slotReused() {
+        List.of(vip, vipGroup, trial).forEach(index::add);
+        index.remove(vipGroup);
+        index.remove(vipGroup); // no longer in the index
+        assertEquals(names(vip), index.find(TagFilter.of(VIP)));
+
+        index.add(untagged); // takes the slot of vipGroup
+        assertEquals(names(vip), index.find(TagFilter.of(VIP)));
+        assertEquals(names(), index.find(TagFilter.of(GROUP)));
+        assertEquals(names(vip, untagged), index.find(new TagFilter(Set.of(), List.of(), Set.of(TRIAL))));
+
+        index.clear();
+        assertEquals(0, index.getTagCount());
+        assertEquals(names(), index.find(new TagFilter(Set.of(), List.of(), Set.of(TRIAL))));
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_tagIdReused() {
+        List.of(vip, vipGroup, trial).forEach(index::add);
+        index.remove(trial);
+        assertEquals(2, index.getTagCount());
+        assertEquals(names(), index.find(TagFilter.of(TRIAL)));
+
+        index.remove(vipGroup);
+        assertEquals(1, index.getTagCount());
+
+        Person senior = new PersonBuilder().withName("Senior").withTags("senior", "trial").build();
+        index.add(senior); // takes the ids of the removed tags
+        assertEquals(3, index.getTagCount());
+        assertEquals(names(senior), index.find(TagFilter.of(TRIAL)));
+        assertEquals(names(), index.find(TagFilter.of(GROUP)));
+        assertEquals(names(vip, senior), index.find(new TagFilter(Set.of(), List.of(), Set.of(GROUP))));
+    }
+
+    @Test
+    public void find_randomFilters_sameAsTagFilterMatches() {
+        Random random = new Random(23);
+        String[] tagNames = {"vip", "group", "solo", "trial", "senior", "student"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            List<String> tags = new ArrayList<>();
+            for (String tagName : tagNames) {
+                if (random.nextInt(3) == 0) {
+                    tags.add(tagName);
+                }
+            }
+            persons.add(new PersonBuilder().withName("Person " + i).withTags(tags.toArray(String[]::new)).build());
+        }
+        persons.forEach(index::add);
+        for (int i = 0; i < 100; i += 3) {
+            index.remove(persons.get(i));
+        }
+        for (int i = 0; i < 200; i++) {
+            Set<Tag> required = randomTags(random, tagNames);
+            Set<Tag> excluded = randomTags(random, tagNames);
+            Set<Tag> alternatives = randomTags(random, tagNames);
+            alternatives.add(new Tag(tagNames[random.nextInt(tagNames.length)]));
+            boolean hasAlternatives = random.nextBoolean() || required.isEmpty() && excluded.isEmpty();
+            TagFilter filter = new TagFilter(required, hasAlternatives ? List.of(alternatives) : List.of(), excluded);
+            Set<Name> expected = new HashSet<>();
+            for (int j = 0; j < persons.size(); j++) {
+                if ((j >= 100 || j % 3 != 0) && filter.matches(persons.get(j).getTags())) {
+                    expected.add(persons.get(j).getName());
+                }
+            }
+            assertEquals(expected, index.find(filter), filter.toString());
+            assertEquals(expected.size(), index.count(filter));
+        }
+    }
+
+    private static Set<Tag> randomTags(Random random, String[] tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (random.nextInt(6) == 0) {
+                tags.add(new Tag(tagName));
+            }
+        }
+        return tags;
+    }
+
+    private static Set<Name> names(Person... persons) {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName());
+        }
+        return names;
+    }
+}
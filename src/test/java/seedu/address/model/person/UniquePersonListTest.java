@@ -9,9 +9,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -110,6 +114,104 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void contains_afterChanges_tracksCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.contains(ALICE));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getWeeklyOccupancy_afterChanges_tracksCurrentSessions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        WeeklyOccupancy expected = WeeklyOccupancy.of(ALICE.getSession());
+        expected.add(BOB.getSession());
+        assertEquals(expected, uniquePersonList.getWeeklyOccupancy());
+
+        Person editedAlice = new PersonBuilder(ALICE).withSession("WEEKLY:SUN-0600-0700").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+        assertEquals(WeeklyOccupancy.of(editedAlice.getSession()), uniquePersonList.getWeeklyOccupancy());
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(WeeklyOccupancy.of(BOB.getSession()), uniquePersonList.getWeeklyOccupancy());
+    }
+
+    @Test
+    public void getSessionOccurrences_afterChanges_tracksCurrentSessions() {
+        // Monday, 2 March 2099 (ALICE: MON-0800-0900, BOB: WED-1900-2030)
+        LocalDateTime from = LocalDateTime.of(2099, 3, 2, 0, 0);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(List.of(ALICE, BOB), personsOf(uniquePersonList.getSessionOccurrences(from, from.plusWeeks(1))));
+
+        Person editedAlice = new PersonBuilder(ALICE).withSession("WEEKLY:SUN-0600-0700").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(BOB, editedAlice),
+                personsOf(uniquePersonList.getSessionOccurrences(from, from.plusWeeks(1))));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(List.of(editedAlice), personsOf(uniquePersonList.getSessionOccurrences(from, from.plusWeeks(1))));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(List.of(BOB), personsOf(uniquePersonList.getSessionOccurrences(from, from.plusWeeks(1))));
+    }
+
+    @Test
+    public void findNamesContaining_afterChanges_tracksCurrentNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Set.of(ALICE.getName(), BOB.getName()),
+                uniquePersonList.findNamesContaining(List.of("alice", "choo")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Choo").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice.getName(), BOB.getName()),
+                uniquePersonList.findNamesContaining(List.of("choo")));
+        assertEquals(Set.of(), uniquePersonList.findNamesContaining(List.of("pauline")));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(editedAlice.getName()), uniquePersonList.findNamesContaining(List.of("choo")));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Set.of(BOB.getName()), uniquePersonList.findNamesContaining(List.of("alice", "bob")));
+    }
+
+    @Test
+    public void getUnpaidByDeadline_afterChanges_tracksCurrentPersons() {
+        Person unpaidAlice = new PersonBuilder(ALICE).withPaid("false").withDeadline("2099-02-01").build();
+        Person unpaidBob = new PersonBuilder(BOB).withPaid("false").withDeadline("2099-01-01").build();
+        uniquePersonList.add(unpaidAlice);
+        uniquePersonList.add(unpaidBob);
+        assertEquals(List.of(unpaidBob, unpaidAlice), uniquePersonList.getUnpaidByDeadline());
+
+        Person paidBob = new PersonBuilder(unpaidBob).withPaid("true").build();
+        uniquePersonList.setPerson(unpaidBob, paidBob);
+        assertEquals(List.of(unpaidAlice), uniquePersonList.getUnpaidByDeadline());
+        assertEquals(List.of(), uniquePersonList.getUnpaidDueBetween(LocalDate.MIN, LocalDate.of(2099, 1, 31)));
+
+        uniquePersonList.remove(unpaidAlice);
+        assertEquals(List.of(), uniquePersonList.getUnpaidByDeadline());
+
+        uniquePersonList.setPersons(List.of(unpaidBob));
+        assertEquals(List.of(unpaidBob),
+                uniquePersonList.getUnpaidDueBetween(LocalDate.of(2099, 1, 1), LocalDate.of(2099, 1, 1)));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -185,6 +287,33 @@ public class UniquePersonListTest {
         assertThrows(ConflictingSessionException.class, () -> uniquePersonList.setPersons(listWithConflict));
     }
 
+    @Test
+    public void getVersion_listModified_versionChanges() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertTrue(uniquePersonList.getVersion() != version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getVersion() != version);
+    }
+
+    @Test
+    public void getVersion_failedOrReadOnlyOperations_versionUnchanged() {
+        uniquePersonList.add(ALICE);
+        long version = uniquePersonList.getVersion();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        uniquePersonList.contains(BOB);
+        uniquePersonList.hasSessionConflict(BOB);
+        assertEquals(version, uniquePersonList.getVersion());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -195,4 +324,8 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static List<Person> personsOf(List<SessionOccurrence> occurrences) {
+        return occurrences.stream().map(SessionOccurrence::getPerson).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class UnpaidDeadlineListTest {
+
+    private final Person early = unpaid("Amy", "2099-01-05");
+    private final Person sameDay = unpaid("Bob", "2099-01-05");
+    private final Person late = unpaid("Cara", "2099-02-01");
+    private final Person noDeadline = unpaid("Dan", "");
+    private final Person paid = new PersonBuilder().withName("Eve").withDeadline("2099-01-01").withPaid("true").build();
+
+    @Test
+    public void of_source_unpaidOrderedByDeadline() {
+        ObservableList<Person> source = FXCollections.observableArrayList(noDeadline, late, paid, sameDay, early);
+        UnpaidDeadlineList unpaidDeadlines = UnpaidDeadlineList.of(source);
+        assertEquals(List.of(early, sameDay, late, noDeadline), unpaidDeadlines.getUnpaidPersons());
+    }
+
+    @Test
+    public void addAndRemove_editedPersons_keptInOrder() {
+        UnpaidDeadlineList unpaidDeadlines = new UnpaidDeadlineList();
+        List.of(late, paid, noDeadline, early).forEach(unpaidDeadlines::add);
+        assertEquals(List.of(early, late, noDeadline), unpaidDeadlines.getUnpaidPersons());
+
+        // an edit replaces the person in the source list
+        Person postponed = new PersonBuilder(early).withDeadline("2099-03-01").build();
+        unpaidDeadlines.remove(early);
+        unpaidDeadlines.add(postponed);
+        assertEquals(List.of(late, postponed, noDeadline), unpaidDeadlines.getUnpaidPersons());
+
+        Person settled = new PersonBuilder(late).withPaid("true").build();
+        unpaidDeadlines.remove(late);
+        unpaidDeadlines.add(settled);
+        Person unsettled = new PersonBuilder(paid).withPaid("false").build();
+        unpaidDeadlines.remove(paid);
+        unpaidDeadlines.add(unsettled);
+        assertEquals(List.of(unsettled, postponed, noDeadline), unpaidDeadlines.getUnpaidPersons());
+
+        unpaidDeadlines.remove(noDeadline);
+        unpaidDeadlines.remove(noDeadline); // no longer in the list
+        unpaidDeadlines.add(sameDay);
+        assertEquals(List.of(unsettled, sameDay, postponed), unpaidDeadlines.getUnpaidPersons());
+    }
+
+    @Test
+    public void setAll_replacesPersons_unpaidOrderedByDeadline() {
+        UnpaidDeadlineList unpaidDeadlines = new UnpaidDeadlineList();
+        List.of(late, noDeadline).forEach(unpaidDeadlines::add);
+
+        unpaidDeadlines.setAll(List.of(paid, sameDay, late, early));
+        assertEquals(List.of(early, sameDay, late), unpaidDeadlines.getUnpaidPersons());
+
+        unpaidDeadlines.remove(sameDay);
+        unpaidDeadlines.add(noDeadline);
+        assertEquals(List.of(early, late, noDeadline), unpaidDeadlines.getUnpaidPersons());
+
+        unpaidDeadlines.setAll(List.of());
+        assertEquals(List.of(), unpaidDeadlines.getUnpaidPersons());
+    }
+
+    private static Person unpaid(String name, String deadline) {
+        return new PersonBuilder().withName(name).withDeadline(deadline).withPaid("false").build();
+    }
+}
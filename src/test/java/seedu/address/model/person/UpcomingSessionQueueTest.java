@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import seedu.address.testutil.MovableClock;
+import seedu.address.testutil.PersonBuilder;
+
+public class UpcomingSessionQueueTest {
+
+    // Thursday, 1 January 2099
+    private final MovableClock clock = new MovableClock(Instant.parse("2099-01-01T08:00:00Z"));
+
+    @Test
+    public void add_persons_orderedByNextOccurrence() {
+        UpcomingSessionQueue upcomingSessions = new UpcomingSessionQueue(clock);
+        Person monthly = new PersonBuilder().withName("Amy").withSession("MONTHLY:2 10:00", clock).build();
+        Person oneOff = new PersonBuilder().withName("Bob").withSession("2099-01-01 12:00", clock).build();
+        Person weekly = new PersonBuilder().withName("Cara").withSession("WEEKLY:THU-0900-1000", clock).build();
+        Person sameTime = new PersonBuilder().withName("Dan").withSession("BIWEEKLY:THU-0900-1000", clock).build();
+        List.of(monthly, oneOff, weekly, sameTime).forEach(upcomingSessions::add);
+
+        assertEquals(List.of(weekly, sameTime, oneOff, monthly), upcomingSessions.getUpcomingPersons());
+    }
+
+    @Test
+    public void advance_sessionsPassed_onlyPassedPersonsMoved() {
+        UpcomingSessionQueue upcomingSessions = new UpcomingSessionQueue(clock);
+        Person weekly = new PersonBuilder().withName("Amy").withSession("WEEKLY:THU-0900-1000", clock).build();
+        Person oneOff = new PersonBuilder().withName("Bob").withSession("2099-01-01 12:00", clock).build();
+        Person monthly = new PersonBuilder().withName("Cara").withSession("MONTHLY:2 10:00", clock).build();
+        Person biweekly = new PersonBuilder().withName("Dan").withSession("BIWEEKLY:THU-0930-1000", clock).build();
+        List.of(weekly, oneOff, monthly, biweekly).forEach(upcomingSessions::add);
+        assertEquals(0, upcomingSessions.advance());
+
+        clock.setInstant(Instant.parse("2099-01-01T09:15:00Z"));
+        assertEquals(1, upcomingSessions.advance());
+        assertEquals(List.of(biweekly, oneOff, monthly, weekly), upcomingSessions.getUpcomingPersons());
+
+        clock.setInstant(Instant.parse("2099-01-01T13:00:00Z"));
+        assertEquals(2, upcomingSessions.advance());
+        assertEquals(List.of(monthly, weekly, biweekly, oneOff), upcomingSessions.getUpcomingPersons());
+    }
+
+    @Test
+    public void remove_person_skippedWhenItsSessionPasses() {
+        UpcomingSessionQueue upcomingSessions = new UpcomingSessionQueue(clock);
+        Person weekly = new PersonBuilder().withName("Amy").withSession("WEEKLY:THU-0900-1000", clock).build();
+        Person monthly = new PersonBuilder().withName("Bob").withSession("MONTHLY:2 10:00", clock).build();
+        upcomingSessions.add(weekly);
+        upcomingSessions.add(monthly);
+
+        upcomingSessions.remove(weekly);
+        upcomingSessions.remove(weekly);
+        assertEquals(List.of(monthly), upcomingSessions.getUpcomingPersons());
+
+        clock.setInstant(Instant.parse("2099-01-01T09:15:00Z"));
+        assertEquals(0, upcomingSessions.advance());
+        assertEquals(List.of(monthly), upcomingSessions.getUpcomingPersons());
+    }
+
+    @Test
+    public void of_sourceReplaced_oneChange() {
+        Person weekly = new PersonBuilder().withName("Amy").withSession("WEEKLY:THU-0900-1000", clock).build();
+        Person oneOff = new PersonBuilder().withName("Bob").withSession("2099-01-01 12:00", clock).build();
+        Person monthly = new PersonBuilder().withName("Cara").withSession("MONTHLY:2 10:00", clock).build();
+        ObservableList<Person> source = FXCollections.observableArrayList(monthly);
+        UpcomingSessionQueue upcomingSessions = UpcomingSessionQueue.of(source, clock);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        upcomingSessions.getUpcomingPersons().addListener(changes::add);
+
+        source.setAll(monthly, oneOff, weekly);
+        assertEquals(1, changes.size());
+        assertEquals(List.of(weekly, oneOff, monthly), upcomingSessions.getUpcomingPersons());
+
+        source.remove(oneOff);
+        assertEquals(2, changes.size());
+        assertEquals(List.of(weekly, monthly), upcomingSessions.getUpcomingPersons());
+    }
+
+    @Test
+    public void advance_randomChanges_matchesFullSort() {
+        Random random = new Random(17);
+        String[] days = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+        UpcomingSessionQueue upcomingSessions = new UpcomingSessionQueue(clock);
+        List<Person> persons = new ArrayList<>();
+        for (int step = 0; step < 300; step++) {
+            if (persons.isEmpty() || random.nextInt(3) > 0) {
+                int hour = 6 + random.nextInt(14);
+                String session = random.nextBoolean()
+                        ? String.format("WEEKLY:%s-%02d00-%02d30", days[random.nextInt(7)], hour, hour)
+                        : String.format("MONTHLY:%d %02d:15", 1 + random.nextInt(28), hour);
+                Person person = new PersonBuilder().withName("Person " + step).withSession(session, clock).build();
+                persons.add(person);
+                upcomingSessions.add(person);
+            } else {
+                upcomingSessions.remove(persons.remove(random.nextInt(persons.size())));
+            }
+            clock.setInstant(clock.instant().plusSeconds(random.nextInt(6 * 60 * 60)));
+            upcomingSessions.advance();
+
+            List<Person> expected = new ArrayList<>(persons);
+            expected.sort(new PersonSessionComparator(new SessionSortKeys(clock)));
+            assertEquals(expected, upcomingSessions.getUpcomingPersons(), "step " + step);
+        }
+    }
+
+}
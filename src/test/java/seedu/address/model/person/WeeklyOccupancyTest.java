@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class WeeklyOccupancyTest {
+
+    @Test
+    public void add_weeklySession_minutesBusy() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(Session.fromString("WEEKLY:MON-0900-1030-SUN-2300-2359"));
+
+        assertTrue(occupancy.isBusy(DayOfWeek.MONDAY, LocalTime.of(9, 0)));
+        assertTrue(occupancy.isBusy(DayOfWeek.MONDAY, LocalTime.of(10, 29)));
+        assertFalse(occupancy.isBusy(DayOfWeek.MONDAY, LocalTime.of(10, 30)));
+        assertFalse(occupancy.isBusy(DayOfWeek.TUESDAY, LocalTime.of(9, 30)));
+        assertTrue(occupancy.isBusy(DayOfWeek.SUNDAY, LocalTime.of(23, 58)));
+        assertEquals(90 + 59, occupancy.getBusyMinutes());
+        assertEquals(90, occupancy.getBusyMinutes(DayOfWeek.MONDAY));
+        assertEquals(100.0 * 90 / WeeklyOccupancy.MINUTES_PER_DAY, occupancy.getUtilization(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void add_oneOffAndMonthlySessions_ignored() {
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        occupancy.add(Session.fromString(LocalDate.now().plusDays(1) + " 10:00"));
+        occupancy.add(Session.fromString("MONTHLY:15 10:00"));
+        assertEquals(new WeeklyOccupancy(), occupancy);
+    }
+
+    @Test
+    public void isFree_rangesAcrossWords_matchesMinuteByMinuteCheck() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(Session.fromString("WEEKLY:WED-0101-0205-WED-1500-1501"));
+        for (int start = 0; start < 20 * 60; start += 7) {
+            for (int length = 0; length < 150; length += 13) {
+                LocalTime startTime = LocalTime.MIDNIGHT.plusMinutes(start);
+                LocalTime endTime = startTime.plusMinutes(length);
+                if (endTime.isBefore(startTime)) {
+                    continue;
+                }
+                boolean expected = true;
+                for (int minute = start; minute < Math.max(start + 1, start + length); minute++) {
+                    expected &= !occupancy.isBusy(DayOfWeek.WEDNESDAY, LocalTime.MIDNIGHT.plusMinutes(minute));
+                }
+                assertEquals(expected, occupancy.isFree(DayOfWeek.WEDNESDAY, startTime, endTime),
+                        startTime + "-" + endTime);
+            }
+        }
+    }
+
+    @Test
+    public void isFree_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new WeeklyOccupancy().isFree(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    public void remove_session_minutesFreed() {
+        Session morning = Session.fromString("WEEKLY:FRI-0800-0900");
+        Session evening = Session.fromString("BIWEEKLY:FRI-1800-1900");
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(morning);
+        occupancy.add(evening);
+
+        occupancy.remove(morning);
+        assertEquals(WeeklyOccupancy.of(evening), occupancy);
+        assertTrue(occupancy.isFree(DayOfWeek.FRIDAY, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+        assertFalse(occupancy.isFree(DayOfWeek.FRIDAY, LocalTime.of(17, 0), LocalTime.of(18, 1)));
+    }
+
+    @Test
+    public void intersects() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(Session.fromString("WEEKLY:THU-1000-1100"));
+        assertTrue(occupancy.intersects(WeeklyOccupancy.of(Session.fromString("WEEKLY:THU-1059-1200"))));
+        assertFalse(occupancy.intersects(WeeklyOccupancy.of(Session.fromString("WEEKLY:THU-1100-1200"))));
+        assertFalse(occupancy.intersects(WeeklyOccupancy.of(Session.fromString("WEEKLY:FRI-1000-1100"))));
+    }
+
+    @Test
+    public void equals() {
+        WeeklyOccupancy occupancy = WeeklyOccupancy.of(Session.fromString("WEEKLY:THU-1000-1100"));
+        assertTrue(occupancy.equals(new WeeklyOccupancy(occupancy)));
+        assertTrue(occupancy.equals(occupancy));
+        assertFalse(occupancy.equals(null));
+        assertFalse(occupancy.equals(new WeeklyOccupancy()));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagFilterTest {
+
+    private static final Tag VIP = new Tag("vip");
+    private static final Tag GROUP = new Tag("group");
+    private static final Tag SOLO = new Tag("solo");
+    private static final Tag TRIAL = new Tag("trial");
+
+    @Test
+    public void constructor_noConditions_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TagFilter(Set.of(), List.of(), Set.of()));
+        assertThrows(IllegalArgumentException.class, () -> new TagFilter(Set.of(VIP), List.of(Set.of()), Set.of()));
+    }
+
+    @Test
+    public void matches() {
+        TagFilter filter = new TagFilter(Set.of(VIP), List.of(Set.of(GROUP, SOLO)), Set.of(TRIAL));
+        assertTrue(filter.matches(Set.of(VIP, GROUP)));
+        assertTrue(filter.matches(Set.of(VIP, SOLO, GROUP)));
+        assertFalse(filter.matches(Set.of(GROUP))); // missing required tag
+        assertFalse(filter.matches(Set.of(VIP))); // none of the alternatives
+        assertFalse(filter.matches(Set.of(VIP, SOLO, TRIAL))); // excluded tag
+
+        TagFilter excludeOnly = new TagFilter(Set.of(), List.of(), Set.of(TRIAL));
+        assertTrue(excludeOnly.matches(Set.of()));
+        assertFalse(excludeOnly.matches(Set.of(TRIAL)));
+    }
+
+    @Test
+    public void getDescription() {
+        assertEquals("tag vip", TagFilter.of(VIP).getDescription());
+        assertEquals("tag vip and tag group or solo and no tag trial",
+                new TagFilter(Set.of(VIP), List.of(Set.of(SOLO, GROUP)), Set.of(TRIAL)).getDescription());
+    }
+
+    @Test
+    public void equals() {
+        TagFilter filter = new TagFilter(Set.of(VIP), List.of(Set.of(GROUP, SOLO)), Set.of(TRIAL));
+        assertTrue(filter.equals(new TagFilter(Set.of(VIP), List.of(Set.of(SOLO, GROUP)), Set.of(TRIAL))));
+        assertFalse(filter.equals(null));
+        assertFalse(filter.equals(TagFilter.of(VIP)));
+        assertFalse(TagFilter.of(VIP).equals(new TagFilter(Set.of(), List.of(), Set.of(VIP))));
+    }
+}
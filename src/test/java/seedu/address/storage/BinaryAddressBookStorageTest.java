@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BinaryAddressBookStorage createStorage() {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        return new BinaryAddressBookStorage(BinaryAddressBookStorage.getSnapshotFilePath(jsonFilePath),
+                new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+
+        // Only the snapshot is written until the data is flushed
+        assertFalse(Files.exists(testFolder.resolve("ab.json")));
+    }
+
+    @Test
+    public void readAddressBook_jsonNewerThanSnapshot_jsonImported() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(edited);
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), FileTime.fromMillis(0));
+
+        assertEquals(edited, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_unexportedChanges_jsonExported() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+        assertEquals(Files.getLastModifiedTime(jsonFilePath),
+                Files.getLastModifiedTime(storage.getAddressBookFilePath()));
+
+        // The exported file is not mistaken for a newer one, so the snapshot is still read
+        FileUtil.writeToFile(jsonFilePath, "not json");
+        Files.setLastModifiedTime(jsonFilePath, Files.getLastModifiedTime(storage.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptSnapshot_jsonImported() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        FileUtil.writeToFile(storage.getAddressBookFilePath(), "not a snapshot");
+        Files.setLastModifiedTime(testFolder.resolve("ab.json"), FileTime.fromMillis(0));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptSnapshotWithoutJson_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // Truncate the last person record
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+
+        // Not a snapshot at all
+        FileUtil.writeToFile(storage.getAddressBookFilePath(), "{\"persons\": []}");
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_jsonExported() throws Exception {
+        Path exportFilePath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original, exportFilePath);
+
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+        assertTrue(Files.exists(exportFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(exportFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+}
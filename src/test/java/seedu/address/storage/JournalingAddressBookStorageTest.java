@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(testFolder.resolve("ab.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(testFolder.resolve("ab.json"), 10);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterCheckpoint_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+
+        // First save writes the snapshot only
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Later saves leave the snapshot untouched
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // Saving unchanged data appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedOnSnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new JournalingAddressBookStorage(filePath, 10).readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The snapshot alone does not have the journaled changes
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_pendingJournal_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulate a crash after a checkpoint was written but before the old journal was cleared
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        FileUtil.writeToFile(storage.getJournalFilePath(), journal);
+
+        AddressBook readBack = new AddressBook(new JournalingAddressBookStorage(filePath, 10).readAddressBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithSameSizeAndTime_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Change one character of the snapshot without changing its size or modification time
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        String snapshot = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, snapshot.replace("Alice Pauline", "Alice Paulina"));
+        Files.setLastModifiedTime(filePath, modified);
+
+        AddressBook readBack = new AddressBook(new JournalingAddressBookStorage(filePath, 10).readAddressBook().get());
+        assertFalse(readBack.hasPerson(HOON));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipped() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"from\":0,\"remo");
+
+        AddressBook readBack = new AddressBook(new JournalingAddressBookStorage(filePath, 10).readAddressBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        String header = Files.readAllLines(storage.getJournalFilePath()).get(0);
+        FileUtil.writeToFile(storage.getJournalFilePath(), header + "\nnot json\n{\"from\":0,\"removed\":0}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournalingAddressBookStorage(filePath, 10)
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(testFolder.resolve("ab.json"), 10);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -9,13 +9,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,41 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptFileWithBackup_backupRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.readAddressBook();
+        assertEquals(Optional.empty(), jsonAddressBookStorage.getRestoredBackupPath());
+
+        // Simulate a data file truncated by a crash
+        FileUtil.writeToFile(filePath, "{\"persons\": [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(Optional.of(FileUtil.getBackupPath(filePath)), jsonAddressBookStorage.getRestoredBackupPath());
+
+        // Missing data file
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(Optional.of(FileUtil.getBackupPath(filePath)), jsonAddressBookStorage.getRestoredBackupPath());
+    }
+
+    @Test
+    public void saveAddressBook_streamedOutput_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+
+        new JsonAddressBookStorage(filePath, false).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonLine(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,14 +3,26 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +32,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +59,113 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.readModelType(parser);
+            assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelTypeInParallel_manyPersons_orderKept() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_CHUNK_SIZE * 2 + 5; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i)
+                    .withSession(LocalDate.of(2099, 1, 1).plusDays(i) + " 10:00").build());
+        }
+        Path filePath = testFolder.resolve("manyPersons.json");
+        JsonUtil.saveJsonFile(filePath, false, generator ->
+                JsonSerializableAddressBook.writeModelType(persons, generator));
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.readModelType(parser,
+                    ForkJoinPool.commonPool());
+            assertEquals(persons, addressBookFromFile.getPersonList());
+        }
+    }
+
+    @Test
+    public void readModelTypeInParallel_invalidPersons_everyInvalidPersonReported() throws Exception {
+        Path filePath = testFolder.resolve("invalidPersons.json");
+        String typicalPersons = FileUtil.readFromFile(TYPICAL_PERSONS_FILE);
+        JsonSerializableAddressBook valid = JsonUtil.fromJsonString(typicalPersons, JsonSerializableAddressBook.class);
+        String persons = JsonUtil.toJsonLine(valid);
+        // Break the names of the second and the last person
+        persons = persons.replaceFirst("\"name\":\"Benson Meier\"", "\"name\":\"Benson M*\"")
+                .replaceFirst("\"name\":\"George Best\"", "\"name\":\"\"");
+        FileUtil.writeToFile(filePath, persons);
+
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSONS, 2) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT, 2, Name.MESSAGE_CONSTRAINTS)
+                + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON_FORMAT, 7, Name.MESSAGE_CONSTRAINTS);
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readModelType(parser, ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    public void readModelType_conflictingSessions_everyConflictReported() throws Exception {
+        List<Person> persons = List.of(
+                new PersonBuilder().withName("Amy").withSession("WEEKLY:MON-0900-1000").build(),
+                new PersonBuilder().withName("Bob").withSession("WEEKLY:TUE-0900-1000").build(),
+                new PersonBuilder().withName("Cal").withSession("BIWEEKLY:MON-0930-1030-TUE-0800-0901").build());
+        Path filePath = testFolder.resolve("conflictingSessions.json");
+        JsonUtil.saveJsonFile(filePath, false, generator ->
+                JsonSerializableAddressBook.writeModelType(persons, generator));
+
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_CONFLICTING_SESSIONS, 2) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_CONFLICTING_SESSION_FORMAT, 1, "Amy", 3, "Cal")
+                + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_CONFLICTING_SESSION_FORMAT, 2, "Bob", 3, "Cal");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelTypeInParallel_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readModelType(parser, ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    public void readModelType_missingPersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        FileUtil.writeToFile(filePath, "{ \"_comment\": \"no persons\" }");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_MISSING_PERSONS, () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[]");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
 }
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private SegmentedAddressBookStorage createStorage() {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        return new SegmentedAddressBookStorage(SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath),
+                SEGMENT_SIZE, new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    private List<String> listSegmentFiles(SegmentedAddressBookStorage storage) throws Exception {
+        try (Stream<Path> files = Files.list(storage.getAddressBookFilePath().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("segment-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_noManifest_jsonImported() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("ab.json")).saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_singleEdit_onlyAffectedSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(2, storage.getSegmentWriteCount());
+
+        // BENSON is in the first segment
+        SegmentedAddressBookStorage reopened = createStorage();
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        List<String> segmentsBefore = listSegmentFiles(reopened);
+        Person editedBenson = new PersonBuilder(BENSON).withPaid("true").build();
+        readBack.setPerson(BENSON, editedBenson);
+        reopened.saveAddressBook(readBack);
+
+        assertEquals(1, reopened.getSegmentWriteCount());
+        List<String> segmentsAfter = listSegmentFiles(reopened);
+        assertEquals(segmentsBefore.size(), segmentsAfter.size());
+        assertFalse(segmentsAfter.contains(segmentsBefore.get(0)));
+        assertTrue(segmentsAfter.containsAll(segmentsBefore.subList(1, segmentsBefore.size())));
+        assertEquals(readBack, new AddressBook(createStorage().readAddressBook().get()));
+
+        // Saving unchanged data writes nothing
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, reopened.getSegmentWriteCount());
+    }
+
+    @Test
+    public void saveAddressBook_personAdded_onlyLastSegmentWritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(3, storage.getSegmentWriteCount());
+        assertEquals(2, listSegmentFiles(storage).size());
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+
+        // Small changes are merged into the last segment until it holds twice the segment size, then it is split
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(5, storage.getSegmentWriteCount());
+        assertEquals(3, listSegmentFiles(storage).size());
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstPersonDeleted_laterSegmentsKept() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> segmentsBefore = listSegmentFiles(storage);
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(3, storage.getSegmentWriteCount());
+        assertTrue(listSegmentFiles(storage).contains(segmentsBefore.get(segmentsBefore.size() - 1)));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_afterSave_jsonExported() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+
+        // The export is not mistaken for a newer data file, so the segments are read
+        SegmentedAddressBookStorage reopened = createStorage();
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.addPerson(HOON);
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, reopened.getSegmentWriteCount());
+    }
+
+    @Test
+    public void readAddressBook_jsonNewerThanManifest_jsonImported() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(edited);
+        FileTime manifestTime = Files.getLastModifiedTime(storage.getAddressBookFilePath());
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(manifestTime.toMillis() + 1000));
+
+        assertEquals(edited, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(storage.getAddressBookFilePath().resolveSibling(listSegmentFiles(storage).get(0)));
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_segmentOutsideDirectory_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(storage.getAddressBookFilePath(),
+                "{\"generation\": 2, \"segments\": [\"../ab.json\"]}");
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+}
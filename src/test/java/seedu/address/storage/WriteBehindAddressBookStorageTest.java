@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.SaveDurability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flushAddressBook_everyCommand_latestSnapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), SaveDurability.EVERY_COMMAND, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(3, storage.getWriteCount() + storage.getCoalescedCount());
+    }
+
+    @Test
+    public void saveAddressBook_laterChangesToModel_snapshotUnaffected() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), SaveDurability.ON_EXIT, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onExit_writtenOnlyOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(filePath), SaveDurability.ON_EXIT, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+
+        storage.flushAddressBook();
+        assertTrue(Files.exists(filePath));
+        assertEquals(1, storage.getWriteCount());
+        assertEquals(1, storage.getCoalescedCount());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(failingStorage, SaveDurability.EVERY_COMMAND, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+        assertTrue(storage.hasFailedSave());
+
+        // The snapshot is kept and written again by the next flush, which fails again
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+        assertEquals(0, storage.getWriteCount());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailedOnce_snapshotWrittenAgain() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AtomicInteger saveAttempts = new AtomicInteger();
+        JsonAddressBookStorage failingOnceStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveAttempts.incrementAndGet() == 1) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(failingOnceStorage, SaveDurability.EVERY_COMMAND, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+        while (!storage.hasFailedSave()) {
+            Thread.sleep(10);
+        }
+
+        storage.flushAddressBook();
+        assertFalse(storage.hasFailedSave());
+        assertEquals(2, saveAttempts.get());
+        assertEquals(1, storage.getWriteCount());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_throwsIoException() {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(failingStorage, SaveDurability.EVERY_COMMAND, 0);
+
+        // Keep saving until the writer has reported the failure of an earlier save
+        assertThrows(IOException.class, "dummy IO exception", () -> {
+            while (true) {
+                storage.saveAddressBook(getTypicalAddressBook());
+                Thread.sleep(10);
+            }
+        });
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")), SaveDurability.EVERY_COMMAND, 0);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
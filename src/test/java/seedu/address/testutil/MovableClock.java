@@ -0,0 +1,48 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@code Clock} for tests that stays at one instant until it is moved with {@link #setInstant(Instant)}.
+ */
+public class MovableClock extends Clock {
+    private Instant instant;
+    private final ZoneId zone;
+
+    /**
+     * Creates a {@code MovableClock} at {@code instant} in UTC.
+     */
+    public MovableClock(Instant instant) {
+        this(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * Creates a {@code MovableClock} at {@code instant} in {@code zone}.
+     */
+    public MovableClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    public void setInstant(Instant instant) {
+        this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MovableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.time.Clock;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -206,6 +207,15 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Session} of the {@code Person} that we are building, which reads the current time from
+     * {@code clock} instead of the system clock.
+     */
+    public PersonBuilder withSession(String session, Clock clock) {
+        this.session = Session.fromString(session, clock);
+        return this;
+    }
+
     /**
      * Builds the person with the specified attributes.
      *